@@ -0,0 +1,47 @@
+package com.aitu;
+
+import java.io.File;
+import java.io.IOException;
+
+// binary form of data/input.json, so nightly runs can load the same inputs without parsing text.
+// All numbers are little-endian except the magic number:
+//
+//   file   = magic "MSTG" | int version | graph*            (graphs follow each other until end of file)
+//   graph  = int id | int V | int E | long labelBytes | labels | int either[E] | int other[E] | double weight[E]
+//   labels = (int byteLength | UTF-8 bytes) for vertex 0 .. V-1, labelBytes bytes in total
+//
+// Edges keep their order from the JSON file, so a graph loads into exactly the same EdgeWeightedGraph.
+// BinaryGraphWriter writes the format and BinaryGraphReader memory-maps it.
+public final class BinaryGraphFormat {
+    public static final int MAGIC = 0x4D535447; // "MSTG"
+    public static final int VERSION = 1;
+    static final int FILE_HEADER_BYTES = 8;
+    static final int GRAPH_HEADER_BYTES = 20;
+
+    private BinaryGraphFormat() { }
+
+    // copies every graph of source into a new binary file and returns how many there were
+    public static int convert(GraphSource source, File target) throws IOException {
+        try (BinaryGraphWriter writer = new BinaryGraphWriter(target)) {
+            InputGraph graph;
+            while ((graph = source.next()) != null) {
+                writer.write(graph);
+            }
+            return writer.getWritten();
+        }
+    }
+
+    // usage: BinaryGraphFormat [input.json] [output.mstg], defaulting to data/input.json and data/input.mstg
+    public static void main(String[] args) {
+        File input = new File(args.length > 0 ? args[0] : "data/input.json");
+        File output = new File(args.length > 1 ? args[1] : "data/input.mstg");
+        long start = System.nanoTime();
+        try (GraphSource source = new GraphJsonReader(input)) {
+            int graphs = convert(source, output);
+            System.out.printf("Converted %d graphs from %s to %s (%d bytes) in %.2f ms%n", graphs, input, output,
+                    output.length(), (System.nanoTime() - start) / 1_000_000.0);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("❌ Error: " + e.getMessage());
+        }
+    }
+}
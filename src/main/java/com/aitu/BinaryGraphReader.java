@@ -0,0 +1,118 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+// reads the layout described in BinaryGraphFormat. Large sections are memory-mapped with FileChannel.map and
+// the edge arrays are bulk-copied straight into the int[] / double[] arrays the graphs are built from, with
+// no parsing and no per-edge objects. Sections under 1 MB are read instead, since every mapping holds an
+// address range until it is garbage collected and a batch can contain thousands of small graphs.
+public class BinaryGraphReader implements GraphSource {
+    private static final int MAP_THRESHOLD = 1 << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private long position;
+
+    public BinaryGraphReader(File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            size = channel.size();
+            if (size < BinaryGraphFormat.FILE_HEADER_BYTES) throw corrupt("file is too short");
+            ByteBuffer header = section(0, BinaryGraphFormat.FILE_HEADER_BYTES);
+            if (header.order(ByteOrder.BIG_ENDIAN).getInt() != BinaryGraphFormat.MAGIC) throw corrupt("bad magic number");
+            int version = header.order(ByteOrder.LITTLE_ENDIAN).getInt();
+            if (version != BinaryGraphFormat.VERSION) throw corrupt("unsupported version " + version);
+            position = BinaryGraphFormat.FILE_HEADER_BYTES;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public InputGraph next() throws IOException {
+        if (position == size) return null;
+        if (size - position < BinaryGraphFormat.GRAPH_HEADER_BYTES) throw corrupt("truncated graph header");
+        ByteBuffer header = section(position, BinaryGraphFormat.GRAPH_HEADER_BYTES);
+        int id = header.getInt();
+        int V = header.getInt();
+        int E = header.getInt();
+        long labelBytes = header.getLong();
+        position += BinaryGraphFormat.GRAPH_HEADER_BYTES;
+        if (V <= 0) throw new IllegalArgumentException("Graph has no vertices");
+        if (E < 0 || labelBytes < 4L * V || size - position < labelBytes + 16L * E) {
+            throw corrupt("graph " + id + " does not fit in the file");
+        }
+
+        VertexSymbolTable symbols = readLabels(section(position, labelBytes), V, id);
+        position += labelBytes;
+
+        int[] either = new int[E];
+        int[] other = new int[E];
+        double[] weight = new double[E];
+        section(position, 4L * E).asIntBuffer().get(either);
+        position += 4L * E;
+        section(position, 4L * E).asIntBuffer().get(other);
+        position += 4L * E;
+        section(position, 8L * E).asDoubleBuffer().get(weight);
+        position += 8L * E;
+
+        for (int i = 0; i < E; i++) {
+            if (either[i] < 0 || either[i] >= V || other[i] < 0 || other[i] >= V || either[i] == other[i]
+                    || !(weight[i] >= 0)) {
+                throw corrupt("invalid edge " + i + " in graph " + id);
+            }
+        }
+        return new InputGraph(id, symbols, either, other, weight);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private VertexSymbolTable readLabels(ByteBuffer labels, int V, int id) throws IOException {
+        VertexSymbolTable symbols = new VertexSymbolTable(V);
+        byte[] bytes = new byte[64];
+        for (int v = 0; v < V; v++) {
+            if (labels.remaining() < 4) throw corrupt("truncated labels in graph " + id);
+            int length = labels.getInt();
+            if (length < 0 || length > labels.remaining()) throw corrupt("truncated labels in graph " + id);
+            if (length > bytes.length) bytes = new byte[Math.max(length, 2 * bytes.length)];
+            labels.get(bytes, 0, length);
+            String name = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            if (symbols.contains(name)) throw new IllegalArgumentException("Duplicate vertex: " + name);
+            symbols.add(name);
+        }
+        if (labels.hasRemaining()) throw corrupt("label block of graph " + id + " has trailing bytes");
+        return symbols;
+    }
+
+    // the bytes [start, start + length) of the file, little-endian
+    private ByteBuffer section(long start, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) throw corrupt("section of " + length + " bytes is too large to map");
+        ByteBuffer buffer;
+        if (length >= MAP_THRESHOLD) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        } else {
+            buffer = ByteBuffer.allocate((int) length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) throw corrupt("unexpected end of file");
+            }
+            buffer.flip();
+        }
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static IOException corrupt(String reason) {
+        return new IOException("Corrupt binary graph file: " + reason);
+    }
+}
@@ -0,0 +1,91 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+// writes graphs in the layout described in BinaryGraphFormat through one reusable 1 MB buffer
+public class BinaryGraphWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private int written;
+
+    public BinaryGraphWriter(File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.order(ByteOrder.BIG_ENDIAN).putInt(BinaryGraphFormat.MAGIC).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(BinaryGraphFormat.VERSION);
+    }
+
+    public void write(InputGraph graph) throws IOException {
+        VertexSymbolTable symbols = graph.symbols();
+        int V = graph.V();
+        int E = graph.E();
+        byte[][] labels = new byte[V][];
+        long labelBytes = 0;
+        for (int v = 0; v < V; v++) {
+            labels[v] = symbols.nameOf(v).getBytes(StandardCharsets.UTF_8);
+            labelBytes += 4 + labels[v].length;
+        }
+
+        ensure(BinaryGraphFormat.GRAPH_HEADER_BYTES);
+        buffer.putInt(graph.id()).putInt(V).putInt(E).putLong(labelBytes);
+        for (byte[] label : labels) {
+            ensure(4);
+            buffer.putInt(label.length);
+            for (int offset = 0; offset < label.length; ) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), label.length - offset);
+                buffer.put(label, offset, length);
+                offset += length;
+            }
+        }
+        for (int i = 0; i < E; i++) {
+            ensure(4);
+            buffer.putInt(graph.either(i));
+        }
+        for (int i = 0; i < E; i++) {
+            ensure(4);
+            buffer.putInt(graph.other(i));
+        }
+        for (int i = 0; i < E; i++) {
+            ensure(8);
+            buffer.putDouble(graph.weight(i));
+        }
+        written++;
+    }
+
+    public int getWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) flush();
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,224 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class BoruvkaMST {
+    private static final int SEQUENTIAL_THRESHOLD = 8192;
+
+    private final int vertices;
+    private final int edgesCount;
+    private Queue<Edge> mst;
+    private double totalWeight;
+    private int rounds;
+    private Metrics tracker;
+
+    public BoruvkaMST(EdgeWeightedGraph graph, Metrics tracker) {
+        this(graph, tracker, ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaMST(EdgeWeightedGraph graph, Metrics tracker, ForkJoinPool pool) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        this.mst = new Queue<>();
+        tracker.reset();
+        tracker.startTimer();
+
+        // edges are identified by their position; endpoints are rewritten to component roots every round
+        Edge[] edges = new Edge[edgesCount];
+        double[] weights = new double[edgesCount];
+        int[] from = new int[edgesCount];
+        int[] to = new int[edgesCount];
+        int[] live = new int[edgesCount];
+        int liveCount = 0;
+        int index = 0;
+        for (Edge e : graph.edges()) {
+            edges[index] = e;
+            weights[index] = e.weight();
+            from[index] = e.either();
+            to[index] = e.other(from[index]);
+            if (from[index] != to[index]) {
+                live[liveCount++] = index;
+            }
+            index++;
+        }
+
+        UF unionFind = new UF(vertices);
+        int[] root = new int[vertices];
+        int edgesAdded = 0;
+
+        while (edgesAdded < vertices - 1 && liveCount > 0) {
+            rounds++;
+
+            // cheapest[c] = 1 + id of the lightest edge leaving component c, or 0
+            AtomicIntegerArray cheapest = new AtomicIntegerArray(vertices);
+            tracker.addComparisons(pool.invoke(new CheapestEdgeTask(live, 0, liveCount, from, to, weights, cheapest)));
+
+            int addedThisRound = 0;
+            for (int c = 0; c < vertices; c++) {
+                int id = cheapest.get(c) - 1;
+                if (id < 0) continue;
+
+                tracker.incrementFind();
+                int rootV = unionFind.find(from[id]);
+                tracker.incrementFind();
+                int rootW = unionFind.find(to[id]);
+                tracker.incrementComparison();
+                if (rootV != rootW) {
+                    unionFind.union(rootV, rootW);
+                    tracker.incrementUnion();
+                    mst.enqueue(edges[id]);
+                    totalWeight += weights[id];
+                    addedThisRound++;
+                }
+            }
+            if (addedThisRound == 0) {
+                break;
+            }
+            edgesAdded += addedThisRound;
+
+            // contract: relabel endpoints with their new roots and drop edges inside a component
+            for (int v = 0; v < vertices; v++) {
+                root[v] = unionFind.find(v);
+            }
+            pool.invoke(new RelabelTask(live, 0, liveCount, from, to, root));
+            int kept = 0;
+            for (int i = 0; i < liveCount; i++) {
+                int id = live[i];
+                if (from[id] != to[id]) {
+                    live[kept++] = id;
+                }
+            }
+            liveCount = kept;
+        }
+
+        if (edgesAdded != vertices - 1) {
+            throw new IllegalStateException("Graph is not connected, no MST possible");
+        }
+
+        tracker.stopTimer();
+    }
+
+    // ties are broken by edge id so that every component picks from one consistent total order,
+    // which is what keeps the chosen edges from closing a cycle
+    private static boolean lighter(int a, int b, double[] weights) {
+        int cmp = Double.compare(weights[a], weights[b]);
+        return cmp < 0 || (cmp == 0 && a < b);
+    }
+
+    private static class CheapestEdgeTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] live;
+        private final int lo;
+        private final int hi;
+        private final int[] from;
+        private final int[] to;
+        private final double[] weights;
+        private final AtomicIntegerArray cheapest;
+
+        CheapestEdgeTask(int[] live, int lo, int hi, int[] from, int[] to, double[] weights,
+                         AtomicIntegerArray cheapest) {
+            this.live = live;
+            this.lo = lo;
+            this.hi = hi;
+            this.from = from;
+            this.to = to;
+            this.weights = weights;
+            this.cheapest = cheapest;
+        }
+
+        @Override
+        protected Long compute() {
+            if (hi - lo <= SEQUENTIAL_THRESHOLD) {
+                long comparisons = 0;
+                for (int i = lo; i < hi; i++) {
+                    int id = live[i];
+                    comparisons += offer(from[id], id);
+                    comparisons += offer(to[id], id);
+                }
+                return comparisons;
+            }
+            int mid = (lo + hi) >>> 1;
+            CheapestEdgeTask left = new CheapestEdgeTask(live, lo, mid, from, to, weights, cheapest);
+            left.fork();
+            long right = new CheapestEdgeTask(live, mid, hi, from, to, weights, cheapest).compute();
+            return right + left.join();
+        }
+
+        // lock-free minimum: retry the CAS until id is stored or a lighter edge is already there
+        private long offer(int component, int id) {
+            long comparisons = 0;
+            while (true) {
+                int current = cheapest.get(component);
+                comparisons++;
+                if (current != 0 && !lighter(id, current - 1, weights)) return comparisons;
+                if (cheapest.compareAndSet(component, current, id + 1)) return comparisons;
+            }
+        }
+    }
+
+    private static class RelabelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] live;
+        private final int lo;
+        private final int hi;
+        private final int[] from;
+        private final int[] to;
+        private final int[] root;
+
+        RelabelTask(int[] live, int lo, int hi, int[] from, int[] to, int[] root) {
+            this.live = live;
+            this.lo = lo;
+            this.hi = hi;
+            this.from = from;
+            this.to = to;
+            this.root = root;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= SEQUENTIAL_THRESHOLD) {
+                for (int i = lo; i < hi; i++) {
+                    int id = live[i];
+                    from[id] = root[from[id]];
+                    to[id] = root[to[id]];
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new RelabelTask(live, lo, mid, from, to, root),
+                    new RelabelTask(live, mid, hi, from, to, root));
+        }
+    }
+
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    public double weight() {
+        return totalWeight;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public Metrics getMetrics() {
+        return tracker;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgesCount() {
+        return edgesCount;
+    }
+}
@@ -0,0 +1,165 @@
+package com.aitu.Dependencies;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ *  The {@code ConcurrentUF} class represents a thread-safe
+ *  <em>union–find data type</em> (also known as the <em>disjoint-sets data type</em>).
+ *  It supports the same operations as {@link UF}: <em>union</em>,
+ *  <em>find</em>, <em>count</em> and the fused <em>union-if-disjoint</em>,
+ *  and any number of threads may call them at the same time.
+ *  <p>
+ *  This implementation is lock-free. Parent links live in an
+ *  {@link AtomicIntegerArray} and a root is linked by a single
+ *  compare-and-set that succeeds only if it is still a root; a thread
+ *  whose compare-and-set fails finds the new roots and tries again.
+ *  To rule out cycles between concurrent links, the root with the smaller
+ *  index is always linked below the root with the larger index
+ *  (<em>union by index</em>) instead of by size or rank.
+ *  <em>Find</em> compresses paths by halving, also with compare-and-set,
+ *  so a failed update merely leaves a longer path.
+ *  <p>
+ *  While other threads call <em>union</em>, the canonical element returned
+ *  by <em>find</em> may already be stale when it is returned, so two calls to
+ *  {@link #find(int)} are not a reliable test of whether two elements are in
+ *  the same set; use {@link #connected(int, int)} instead. Once all unions
+ *  have completed, the structure behaves exactly like a sequential one.
+ *  The constructor takes &Theta;(<em>n</em>) time, where
+ *  <em>n</em> is the number of elements, and the <em>count</em> operation
+ *  takes &Theta;(1) time.
+ */
+public class ConcurrentUF implements UnionFind {
+    private final AtomicIntegerArray parent;  // parent[i] = parent of i
+    private final AtomicInteger count;        // number of components
+
+    /**
+     * Initializes an empty union-find data structure with
+     * {@code n} elements {@code 0} through {@code n-1}.
+     * Initially, each element is in its own set.
+     *
+     * @param  n the number of elements
+     * @throws IllegalArgumentException if {@code n < 0}
+     */
+    public ConcurrentUF(int n) {
+        if (n < 0) throw new IllegalArgumentException();
+        count = new AtomicInteger(n);
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the canonical element of the set containing element {@code p}.
+     *
+     * @param  p an element
+     * @return the canonical element of the set containing {@code p}
+     * @throws IllegalArgumentException unless {@code 0 <= p < n}
+     */
+    @Override
+    public int find(int p) {
+        validate(p);
+        return root(p);
+    }
+
+    private int root(int p) {
+        while (true) {
+            int up = parent.get(p);
+            if (up == p) return p;
+            int grand = parent.get(up);
+            if (grand != up) parent.compareAndSet(p, up, grand);    // path compression by halving
+            p = grand;
+        }
+    }
+
+    /**
+     * Returns the number of sets.
+     *
+     * @return the number of sets (between {@code 1} and {@code n})
+     */
+    @Override
+    public int count() {
+        return count.get();
+    }
+
+    /**
+     * Returns true if the two elements are in the same set, even while
+     * other threads merge sets.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @return {@code true} if {@code p} and {@code q} are in the same set;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    public boolean connected(int p, int q) {
+        validate(p);
+        validate(q);
+        while (true) {
+            int rootP = root(p);
+            int rootQ = root(q);
+            if (rootP == rootQ) return true;
+            // rootP is still a root, so rootQ was not below it when it was found
+            if (parent.get(rootP) == rootP) return false;
+        }
+    }
+
+    /**
+     * Merges the set containing element {@code p} with the set
+     * containing element {@code q}.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    @Override
+    public void union(int p, int q) {
+        unionIfDisjoint(p, q);
+    }
+
+    /**
+     * Merges the set containing element {@code p} with the set containing
+     * element {@code q} if they are different sets. When several threads
+     * merge the same two sets at the same time, exactly one of them
+     * returns {@code true}.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @return {@code true} if the two sets were different and this call merged them;
+     *         {@code false} if {@code p} and {@code q} were already in the same set
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    @Override
+    public boolean unionIfDisjoint(int p, int q) {
+        validate(p);
+        validate(q);
+        while (true) {
+            int rootP = root(p);
+            int rootQ = root(q);
+            if (rootP == rootQ) return false;
+
+            // make root of smaller index point to root of larger index
+            if (rootP > rootQ) {
+                int swap = rootP;
+                rootP = rootQ;
+                rootQ = swap;
+            }
+            if (parent.compareAndSet(rootP, rootP, rootQ)) {
+                count.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // validate that p is a valid index
+    private void validate(int p) {
+        int n = parent.length();
+        if (p < 0 || p >= n) {
+            throw new IllegalArgumentException("index " + p + " is not between 0 and " + (n-1));
+        }
+    }
+}
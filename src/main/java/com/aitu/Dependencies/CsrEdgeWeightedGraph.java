@@ -0,0 +1,274 @@
+package com.aitu.Dependencies;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ *  The {@code CsrEdgeWeightedGraph} class represents an immutable
+ *  edge-weighted undirected graph of vertices named 0 through <em>V</em> – 1,
+ *  stored in <em>compressed sparse row</em> (CSR) form.
+ *  <p>
+ *  The adjacency of vertex {@code v} occupies the slots
+ *  {@code begin(v)} (inclusive) through {@code end(v)} (exclusive) of three
+ *  parallel primitive arrays: the neighbor reached through the slot, the
+ *  weight of the edge and the id of the edge. Every undirected edge therefore
+ *  occupies two slots, one in the adjacency of each endpoint.
+ *  Edges are also numbered 0 through <em>E</em> – 1 and their endpoints and
+ *  weights can be looked up by id, which is what edge-list algorithms
+ *  such as Kruskal's need.
+ *  <p>
+ *  Unlike {@link EdgeWeightedGraph}, no {@link Edge} objects are kept:
+ *  the graph uses &Theta;(<em>E</em> + <em>V</em>) space in flat arrays and
+ *  iterating over the adjacency of a vertex does not allocate.
+ *  {@link #edge(int)} materializes an {@code Edge} on demand.
+ *  <p>
+ *  When built from an {@code EdgeWeightedGraph}, edge ids follow the
+ *  iteration order of {@link EdgeWeightedGraph#edges()} and every adjacency
+ *  follows the iteration order of {@link EdgeWeightedGraph#adj(int)}, so
+ *  algorithms that break ties by encounter order give identical results on
+ *  both representations.
+ */
+public class CsrEdgeWeightedGraph {
+    private final int V;
+    private final int E;
+    private final int[] offsets;       // adjacency of v is in slots offsets[v] .. offsets[v+1]-1
+    private final int[] targets;       // targets[slot] = neighbor reached through the slot
+    private final double[] weights;    // weights[slot] = weight of the edge in the slot
+    private final int[] edgeIds;       // edgeIds[slot] = id of the edge in the slot
+    private final int[] edgeEither;    // edgeEither[id] = one endpoint of edge id
+    private final int[] edgeOther;     // edgeOther[id] = the other endpoint of edge id
+    private final double[] edgeWeight; // edgeWeight[id] = weight of edge id
+
+    /**
+     * Initializes a CSR graph with the same vertices, edges and adjacency
+     * order as {@code G}.
+     *
+     * @param  G the edge-weighted graph to convert
+     * @throws IllegalArgumentException if {@code G} is {@code null}
+     */
+    public CsrEdgeWeightedGraph(EdgeWeightedGraph G) {
+        if (G == null) throw new IllegalArgumentException("argument is null");
+        this.V = G.V();
+        this.E = G.E();
+        edgeEither = new int[E];
+        edgeOther = new int[E];
+        edgeWeight = new double[E];
+
+        Map<Edge, Integer> ids = new IdentityHashMap<>(E);
+        int id = 0;
+        for (Edge e : G.edges()) {
+            int v = e.either();
+            edgeEither[id] = v;
+            edgeOther[id] = e.other(v);
+            edgeWeight[id] = e.weight();
+            ids.put(e, id++);
+        }
+
+        offsets = new int[V + 1];
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] = offsets[v] + G.degree(v);
+        }
+        targets = new int[offsets[V]];
+        weights = new double[offsets[V]];
+        edgeIds = new int[offsets[V]];
+        for (int v = 0; v < V; v++) {
+            int slot = offsets[v];
+            for (Edge e : G.adj(v)) {
+                targets[slot] = e.other(v);
+                weights[slot] = e.weight();
+                edgeIds[slot] = ids.get(e);
+                slot++;
+            }
+        }
+    }
+
+    /**
+     * Initializes a CSR graph with {@code V} vertices directly from an edge list,
+     * without creating any {@link Edge} objects. Edge {@code i} connects
+     * {@code either[i]} and {@code other[i]} and has weight {@code weight[i]}.
+     * The adjacency of every vertex lists its edges in decreasing id order,
+     * which is the order an {@link EdgeWeightedGraph} would report after
+     * adding the same edges in increasing id order.
+     * <p>
+     * The graph takes ownership of the three arrays; they must not be
+     * modified afterwards.
+     *
+     * @param  V the number of vertices
+     * @param  either one endpoint of every edge
+     * @param  other the other endpoint of every edge
+     * @param  weight the weight of every edge
+     * @throws IllegalArgumentException if {@code V < 0}
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws IllegalArgumentException if an endpoint is not between {@code 0} and {@code V-1}
+     * @throws IllegalArgumentException if a weight is {@code NaN}
+     */
+    public CsrEdgeWeightedGraph(int V, int[] either, int[] other, double[] weight) {
+        if (V < 0) throw new IllegalArgumentException("Number of vertices must be non-negative");
+        if (either.length != other.length || either.length != weight.length)
+            throw new IllegalArgumentException("edge arrays must have the same length");
+        this.V = V;
+        this.E = either.length;
+        this.edgeEither = either;
+        this.edgeOther = other;
+        this.edgeWeight = weight;
+
+        offsets = new int[V + 1];
+        for (int i = 0; i < E; i++) {
+            validateVertex(either[i]);
+            validateVertex(other[i]);
+            if (Double.isNaN(weight[i])) throw new IllegalArgumentException("Weight is NaN");
+            offsets[either[i] + 1]++;
+            offsets[other[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        targets = new int[offsets[V]];
+        weights = new double[offsets[V]];
+        edgeIds = new int[offsets[V]];
+        int[] next = new int[V];
+        System.arraycopy(offsets, 0, next, 0, V);
+        for (int i = E - 1; i >= 0; i--) {
+            int v = either[i];
+            int w = other[i];
+            place(next[v]++, w, i);
+            place(next[w]++, v, i);
+        }
+    }
+
+    private void place(int slot, int target, int id) {
+        targets[slot] = target;
+        weights[slot] = edgeWeight[id];
+        edgeIds[slot] = id;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (V-1));
+    }
+
+    /**
+     * Returns the number of vertices in this graph.
+     *
+     * @return the number of vertices in this graph
+     */
+    public int V() {
+        return V;
+    }
+
+    /**
+     * Returns the number of edges in this graph.
+     *
+     * @return the number of edges in this graph
+     */
+    public int E() {
+        return E;
+    }
+
+    /**
+     * Returns the degree of vertex {@code v}.
+     *
+     * @param  v the vertex
+     * @return the degree of vertex {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int degree(int v) {
+        validateVertex(v);
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Returns the first adjacency slot of vertex {@code v}.
+     *
+     * @param  v the vertex
+     * @return the first adjacency slot of vertex {@code v}
+     */
+    public int begin(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * Returns one past the last adjacency slot of vertex {@code v}.
+     *
+     * @param  v the vertex
+     * @return one past the last adjacency slot of vertex {@code v}
+     */
+    public int end(int v) {
+        return offsets[v + 1];
+    }
+
+    /**
+     * Returns the neighbor reached through adjacency slot {@code slot}.
+     *
+     * @param  slot the adjacency slot
+     * @return the neighbor reached through the slot
+     */
+    public int target(int slot) {
+        return targets[slot];
+    }
+
+    /**
+     * Returns the weight of the edge in adjacency slot {@code slot}.
+     *
+     * @param  slot the adjacency slot
+     * @return the weight of the edge in the slot
+     */
+    public double weight(int slot) {
+        return weights[slot];
+    }
+
+    /**
+     * Returns the id of the edge in adjacency slot {@code slot}.
+     *
+     * @param  slot the adjacency slot
+     * @return the id of the edge in the slot
+     */
+    public int edgeId(int slot) {
+        return edgeIds[slot];
+    }
+
+    /**
+     * Returns one endpoint of edge {@code id}.
+     *
+     * @param  id the edge id
+     * @return one endpoint of the edge
+     */
+    public int either(int id) {
+        return edgeEither[id];
+    }
+
+    /**
+     * Returns the endpoint of edge {@code id} that {@link #either(int)} does not return.
+     *
+     * @param  id the edge id
+     * @return the other endpoint of the edge
+     */
+    public int other(int id) {
+        return edgeOther[id];
+    }
+
+    /**
+     * Returns the weight of edge {@code id}.
+     *
+     * @param  id the edge id
+     * @return the weight of the edge
+     */
+    public double edgeWeight(int id) {
+        return edgeWeight[id];
+    }
+
+    /**
+     * Returns a new {@link Edge} with the endpoints and weight of edge {@code id}.
+     *
+     * @param  id the edge id
+     * @return the edge as an {@code Edge} object
+     * @throws IllegalArgumentException unless {@code 0 <= id < E}
+     */
+    public Edge edge(int id) {
+        if (id < 0 || id >= E)
+            throw new IllegalArgumentException("edge id " + id + " is not between 0 and " + (E-1));
+        return new Edge(edgeEither[id], edgeOther[id], edgeWeight[id]);
+    }
+}
@@ -0,0 +1,179 @@
+package com.aitu.Dependencies;
+
+import java.util.NoSuchElementException;
+
+/**
+ *  The {@code DaryIndexMinPQ} class represents an indexed priority queue
+ *  of primitive {@code double} keys implemented with a <em>d</em>-ary heap,
+ *  where the arity <em>d</em> (the number of children of each node) is chosen
+ *  at construction time. Typical choices are 2, 4 and 8.
+ *  <p>
+ *  A larger arity makes the heap shallower: <em>insert</em> and
+ *  <em>decrease-key</em> take &Theta;(log<sub><em>d</em></sub> <em>n</em>)
+ *  time, while <em>delete-the-minimum</em> takes
+ *  &Theta;(<em>d</em> log<sub><em>d</em></sub> <em>n</em>) time because it
+ *  scans all <em>d</em> children on every level. That trade is a good one
+ *  for clients such as Prim's algorithm that decrease keys far more often
+ *  than they delete the minimum.
+ *  <p>
+ *  The heap is 0-based (the children of position <em>k</em> are
+ *  <em>dk</em> + 1 through <em>dk</em> + <em>d</em>) and every position
+ *  stores its key next to its index, so the children scanned by
+ *  <em>delete-the-minimum</em> are adjacent in memory and comparing them
+ *  does not go through the index. Elements are moved into a hole instead of
+ *  being swapped, and no operation allocates after construction.
+ */
+public class DaryIndexMinPQ implements IndexedMinPQ {
+    private final int maxN;          // maximum number of elements on PQ
+    private final int d;             // number of children of every node
+    private int n;                   // number of elements on PQ
+    private final int[] heap;        // heap[k] = index stored at heap position k
+    private final double[] heapKeys; // heapKeys[k] = key of the index stored at heap position k
+    private final int[] pos;         // pos[i] = heap position of index i, or -1
+
+    /**
+     * Initializes an empty indexed priority queue with indices between {@code 0}
+     * and {@code maxN - 1}, backed by a heap with {@code d} children per node.
+     *
+     * @param  maxN the keys on this priority queue are index from {@code 0}
+     *         {@code maxN - 1}
+     * @param  d the arity of the heap
+     * @throws IllegalArgumentException if {@code maxN < 0}
+     * @throws IllegalArgumentException if {@code d < 2}
+     */
+    public DaryIndexMinPQ(int maxN, int d) {
+        if (maxN < 0) throw new IllegalArgumentException();
+        if (d < 2) throw new IllegalArgumentException("arity must be at least 2: " + d);
+        this.maxN = maxN;
+        this.d = d;
+        n = 0;
+        heap = new int[maxN];
+        heapKeys = new double[maxN];
+        pos = new int[maxN];
+        for (int i = 0; i < maxN; i++)
+            pos[i] = -1;
+    }
+
+    /**
+     * Returns the arity of the heap.
+     *
+     * @return the number of children of every node of the heap
+     */
+    public int arity() {
+        return d;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean contains(int i) {
+        validateIndex(i);
+        return pos[i] != -1;
+    }
+
+    @Override
+    public void insert(int i, double key) {
+        validateIndex(i);
+        if (pos[i] != -1) throw new IllegalArgumentException("index is already in the priority queue");
+        siftUp(n++, i, key);
+    }
+
+    @Override
+    public int minIndex() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return heap[0];
+    }
+
+    @Override
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return heapKeys[0];
+    }
+
+    @Override
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int min = heap[0];
+        pos[min] = -1;
+        n--;
+        if (n > 0) siftDown(0, heap[n], heapKeys[n]);
+        return min;
+    }
+
+    @Override
+    public double keyOf(int i) {
+        validateIndex(i);
+        if (pos[i] == -1) throw new NoSuchElementException("index is not in the priority queue");
+        return heapKeys[pos[i]];
+    }
+
+    @Override
+    public void decreaseKey(int i, double key) {
+        validateIndex(i);
+        if (pos[i] == -1) throw new NoSuchElementException("index is not in the priority queue");
+        int cmp = Double.compare(heapKeys[pos[i]], key);
+        if (cmp == 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key equal to the key in the priority queue");
+        if (cmp < 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key strictly greater than the key in the priority queue");
+        siftUp(pos[i], i, key);
+    }
+
+    // throw an IllegalArgumentException if i is an invalid index
+    private void validateIndex(int i) {
+        if (i < 0) throw new IllegalArgumentException("index is negative: " + i);
+        if (i >= maxN) throw new IllegalArgumentException("index >= capacity: " + i);
+    }
+
+    /***************************************************************************
+     * Heap helper functions.
+     ***************************************************************************/
+
+    // moves the hole at position k up until key fits, then stores index i there
+    private void siftUp(int k, int i, double key) {
+        while (k > 0) {
+            int parent = (k - 1) / d;
+            if (Double.compare(heapKeys[parent], key) <= 0) break;
+            move(parent, k);
+            k = parent;
+        }
+        place(k, i, key);
+    }
+
+    // moves the hole at position k down until key fits, then stores index i there
+    private void siftDown(int k, int i, double key) {
+        while (true) {
+            int first = d * k + 1;
+            if (first >= n) break;
+            int last = Math.min(first + d, n);
+            int min = first;
+            for (int c = first + 1; c < last; c++) {
+                if (Double.compare(heapKeys[c], heapKeys[min]) < 0) min = c;
+            }
+            if (Double.compare(heapKeys[min], key) >= 0) break;
+            move(min, k);
+            k = min;
+        }
+        place(k, i, key);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        heapKeys[to] = heapKeys[from];
+        pos[heap[to]] = to;
+    }
+
+    private void place(int k, int i, double key) {
+        heap[k] = i;
+        heapKeys[k] = key;
+        pos[i] = k;
+    }
+}
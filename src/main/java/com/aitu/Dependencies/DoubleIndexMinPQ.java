@@ -0,0 +1,226 @@
+package com.aitu.Dependencies;
+
+import java.util.NoSuchElementException;
+
+/**
+ *  The {@code DoubleIndexMinPQ} class represents an indexed priority queue
+ *  of primitive {@code double} keys. It supports the same operations as
+ *  {@link IndexMinPQ} for the client that only needs {@code double} priorities:
+ *  <em>insert</em>, <em>delete-the-minimum</em>, <em>decrease-key</em> and
+ *  <em>contains</em>, plus peeking at the minimum.
+ *  <p>
+ *  Keys are kept in a {@code double[]} indexed by the client index, so
+ *  no operation boxes a key or allocates: after construction the priority
+ *  queue produces no garbage. Keys are ordered by {@link Double#compare},
+ *  exactly as {@code IndexMinPQ<Double>} orders them, so both
+ *  priority queues pop indices in the same order.
+ *  <p>
+ *  This implementation uses a binary heap along with an array to associate
+ *  keys with integers in the given range.
+ *  The <em>insert</em>, <em>delete-the-minimum</em> and <em>decrease-key</em>
+ *  operations take &Theta;(log <em>n</em>) time in the worst case,
+ *  where <em>n</em> is the number of elements in the priority queue.
+ *  Construction takes time proportional to the specified capacity.
+ *  <p>
+ *  For a heap with a configurable number of children per node, see
+ *  {@link DaryIndexMinPQ}.
+ */
+public class DoubleIndexMinPQ implements IndexedMinPQ {
+    private final int maxN;      // maximum number of elements on PQ
+    private int n;               // number of elements on PQ
+    private final int[] pq;      // binary heap using 1-based indexing
+    private final int[] qp;      // inverse of pq - qp[pq[i]] = pq[qp[i]] = i
+    private final double[] keys; // keys[i] = priority of i
+
+    /**
+     * Initializes an empty indexed priority queue with indices between {@code 0}
+     * and {@code maxN - 1}.
+     *
+     * @param  maxN the keys on this priority queue are index from {@code 0}
+     *         {@code maxN - 1}
+     * @throws IllegalArgumentException if {@code maxN < 0}
+     */
+    public DoubleIndexMinPQ(int maxN) {
+        if (maxN < 0) throw new IllegalArgumentException();
+        this.maxN = maxN;
+        n = 0;
+        keys = new double[maxN];
+        pq   = new int[maxN + 1];
+        qp   = new int[maxN];
+        for (int i = 0; i < maxN; i++)
+            qp[i] = -1;
+    }
+
+    /**
+     * Returns true if this priority queue is empty.
+     *
+     * @return {@code true} if this priority queue is empty;
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Is {@code i} an index on this priority queue?
+     *
+     * @param  i an index
+     * @return {@code true} if {@code i} is an index on this priority queue;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException unless {@code 0 <= i < maxN}
+     */
+    @Override
+    public boolean contains(int i) {
+        validateIndex(i);
+        return qp[i] != -1;
+    }
+
+    /**
+     * Returns the number of keys on this priority queue.
+     *
+     * @return the number of keys on this priority queue
+     */
+    @Override
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Associates key with index {@code i}.
+     *
+     * @param  i an index
+     * @param  key the key to associate with index {@code i}
+     * @throws IllegalArgumentException unless {@code 0 <= i < maxN}
+     * @throws IllegalArgumentException if there already is an item associated
+     *         with index {@code i}
+     */
+    @Override
+    public void insert(int i, double key) {
+        validateIndex(i);
+        if (qp[i] != -1) throw new IllegalArgumentException("index is already in the priority queue");
+        n++;
+        qp[i] = n;
+        pq[n] = i;
+        keys[i] = key;
+        swim(n);
+    }
+
+    /**
+     * Returns an index associated with a minimum key.
+     *
+     * @return an index associated with a minimum key
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    @Override
+    public int minIndex() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return pq[1];
+    }
+
+    /**
+     * Returns a minimum key.
+     *
+     * @return a minimum key
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    @Override
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return keys[pq[1]];
+    }
+
+    /**
+     * Removes a minimum key and returns its associated index.
+     *
+     * @return an index associated with a minimum key
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    @Override
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int min = pq[1];
+        exch(1, n--);
+        sink(1);
+        qp[min] = -1;
+        return min;
+    }
+
+    /**
+     * Returns the key associated with index {@code i}.
+     *
+     * @param  i the index of the key to return
+     * @return the key associated with index {@code i}
+     * @throws IllegalArgumentException unless {@code 0 <= i < maxN}
+     * @throws NoSuchElementException no key is associated with index {@code i}
+     */
+    @Override
+    public double keyOf(int i) {
+        validateIndex(i);
+        if (qp[i] == -1) throw new NoSuchElementException("index is not in the priority queue");
+        return keys[i];
+    }
+
+    /**
+     * Decrease the key associated with index {@code i} to the specified value.
+     *
+     * @param  i the index of the key to decrease
+     * @param  key decrease the key associated with index {@code i} to this key
+     * @throws IllegalArgumentException unless {@code 0 <= i < maxN}
+     * @throws IllegalArgumentException if {@code key >= keyOf(i)}
+     * @throws NoSuchElementException no key is associated with index {@code i}
+     */
+    @Override
+    public void decreaseKey(int i, double key) {
+        validateIndex(i);
+        if (qp[i] == -1) throw new NoSuchElementException("index is not in the priority queue");
+        int cmp = Double.compare(keys[i], key);
+        if (cmp == 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key equal to the key in the priority queue");
+        if (cmp < 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key strictly greater than the key in the priority queue");
+        keys[i] = key;
+        swim(qp[i]);
+    }
+
+    // throw an IllegalArgumentException if i is an invalid index
+    private void validateIndex(int i) {
+        if (i < 0) throw new IllegalArgumentException("index is negative: " + i);
+        if (i >= maxN) throw new IllegalArgumentException("index >= capacity: " + i);
+    }
+
+    /***************************************************************************
+     * General helper functions.
+     ***************************************************************************/
+    private boolean greater(int i, int j) {
+        return Double.compare(keys[pq[i]], keys[pq[j]]) > 0;
+    }
+
+    private void exch(int i, int j) {
+        int swap = pq[i];
+        pq[i] = pq[j];
+        pq[j] = swap;
+        qp[pq[i]] = i;
+        qp[pq[j]] = j;
+    }
+
+    /***************************************************************************
+     * Heap helper functions.
+     ***************************************************************************/
+    private void swim(int k) {
+        while (k > 1 && greater(k/2, k)) {
+            exch(k, k/2);
+            k = k/2;
+        }
+    }
+
+    private void sink(int k) {
+        while (2*k <= n) {
+            int j = 2*k;
+            if (j < n && greater(j, j+1)) j++;
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+}
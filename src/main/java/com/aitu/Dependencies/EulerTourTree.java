@@ -0,0 +1,344 @@
+package com.aitu.Dependencies;
+
+/**
+ *  The {@code EulerTourTree} class represents a forest over the vertices
+ *  0 through <em>V</em>–1 whose tree edges are named by <em>slots</em>
+ *  0 through <em>V</em>–2, each vertex carrying a {@code double} key and
+ *  each tree edge an optional mark. It supports <em>link</em> and
+ *  <em>cut</em>, <em>connected</em>, the <em>size</em> of a tree, and
+ *  finding in a tree the vertex of smallest key or some marked edge.
+ *  <p>
+ *  This implementation stores the Euler tour of every tree as a sequence
+ *  held in a splay tree: each vertex appears once and each tree edge
+ *  contributes two arcs, one per direction. Rerooting a tree rotates its
+ *  tour, so link and cut are a constant number of splits and joins. Nodes
+ *  live in parallel primitive arrays: vertex <em>v</em> is node <em>v</em>
+ *  and the arcs of slot <em>s</em> are nodes <em>V</em> + 2<em>s</em> and
+ *  <em>V</em> + 2<em>s</em> + 1, so no operation allocates.
+ *  The constructor takes &Theta;(<em>V</em>) time. All other operations
+ *  take <em>O</em>(log <em>V</em>) amortized time.
+ */
+public class EulerTourTree {
+    private final int V;
+    private final int[] left;       // left[x] = left child of x in its splay tree, or -1
+    private final int[] right;      // right[x] = right child of x in its splay tree, or -1
+    private final int[] parent;     // parent[x] = parent of x in its splay tree, or -1
+    private final int[] count;      // count[x] = number of nodes in the splay subtree of x
+    private final int[] size;       // size[x] = number of vertices in the splay subtree of x
+    private final double[] key;     // key[v] = key of vertex v
+    private final int[] best;       // best[x] = vertex of smallest key in the splay subtree of x, or -1
+    private final boolean[] marked; // marked[x] = arc x is the first arc of a marked edge
+    private final int[] mark;       // mark[x] = a marked arc in the splay subtree of x, or -1
+    private final int[] endpoint;   // endpoint[s] = the vertex slot s leaves from, or -1 if s is unused
+
+    /**
+     * Initializes a forest of {@code V} single-vertex trees whose keys
+     * are all {@link Double#POSITIVE_INFINITY}.
+     *
+     * @param  V the number of vertices
+     * @throws IllegalArgumentException if {@code V < 0}
+     */
+    public EulerTourTree(int V) {
+        if (V < 0) throw new IllegalArgumentException("Number of vertices must be non-negative");
+        this.V = V;
+        int slots = Math.max(V - 1, 0);
+        int n = V + 2 * slots;
+        left = new int[n];
+        right = new int[n];
+        parent = new int[n];
+        count = new int[n];
+        size = new int[n];
+        key = new double[V];
+        best = new int[n];
+        marked = new boolean[n];
+        mark = new int[n];
+        endpoint = new int[slots];
+        for (int v = 0; v < V; v++) {
+            key[v] = Double.POSITIVE_INFINITY;
+        }
+        for (int x = 0; x < n; x++) {
+            left[x] = -1;
+            right[x] = -1;
+            parent[x] = -1;
+            update(x);
+        }
+        for (int s = 0; s < slots; s++) {
+            endpoint[s] = -1;
+        }
+    }
+
+    /**
+     * Are vertices {@code v} and {@code w} in the same tree?
+     *
+     * @param  v one vertex
+     * @param  w the other vertex
+     * @return {@code true} if {@code v} and {@code w} are in the same tree;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException unless both {@code 0 <= v < V} and {@code 0 <= w < V}
+     */
+    public boolean connected(int v, int w) {
+        validateVertex(v);
+        validateVertex(w);
+        if (v == w) return true;
+        splay(v);
+        int root = w;
+        while (parent[root] != -1) {
+            root = parent[root];
+        }
+        splay(w);
+        return root == v;
+    }
+
+    /**
+     * Returns the number of vertices in the tree containing {@code v}.
+     *
+     * @param  v the vertex
+     * @return the number of vertices in the tree containing {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int size(int v) {
+        validateVertex(v);
+        splay(v);
+        return size[v];
+    }
+
+    /**
+     * Joins the trees of {@code v} and {@code w} with a tree edge between
+     * them, named by {@code slot}.
+     *
+     * @param  v one vertex
+     * @param  w the other vertex
+     * @param  slot the name of the new tree edge
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}, {@code 0 <= w < V} and {@code 0 <= slot < V-1}
+     * @throws IllegalArgumentException if {@code slot} is in use
+     * @throws IllegalArgumentException if {@code v} and {@code w} are already in the same tree
+     */
+    public void link(int v, int w, int slot) {
+        validateSlot(slot);
+        if (endpoint[slot] != -1) throw new IllegalArgumentException("slot " + slot + " is already in use");
+        if (connected(v, w)) throw new IllegalArgumentException("vertices " + v + " and " + w + " are already connected");
+        int forward = V + 2 * slot;
+        int backward = forward + 1;
+        endpoint[slot] = v;
+        // the tour of v's tree, then over to w, the tour of w's tree, and back
+        int tour = join(reroot(v), forward);
+        tour = join(tour, reroot(w));
+        join(tour, backward);
+    }
+
+    /**
+     * Removes the tree edge named by {@code slot}.
+     *
+     * @param  slot the name of the tree edge
+     * @throws IllegalArgumentException unless {@code 0 <= slot < V-1}
+     * @throws IllegalArgumentException if {@code slot} is not in use
+     */
+    public void cut(int slot) {
+        validateSlot(slot);
+        if (endpoint[slot] == -1) throw new IllegalArgumentException("slot " + slot + " is not in use");
+        int first = V + 2 * slot;
+        int second = first + 1;
+        splay(first);
+        int firstIndex = count(left[first]);
+        splay(second);
+        if (count(left[second]) < firstIndex) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        // the tour reads X first Y second Z: Y is one tree, and Z followed by X the other
+        int before = splitBefore(first);
+        splitAfter(first);
+        int after = splitAfter(second);
+        splitBefore(second);
+        join(after, before);
+        setMarked(slot, false);
+        endpoint[slot] = -1;
+    }
+
+    /**
+     * Returns the key of vertex {@code v}.
+     *
+     * @param  v the vertex
+     * @return the key of vertex {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public double key(int v) {
+        validateVertex(v);
+        return key[v];
+    }
+
+    /**
+     * Sets the key of vertex {@code v}. {@link Double#POSITIVE_INFINITY}
+     * takes the vertex out of {@link #minKeyVertex}.
+     *
+     * @param  v the vertex
+     * @param  k the new key
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public void setKey(int v, double k) {
+        validateVertex(v);
+        splay(v);
+        key[v] = k;
+        update(v);
+    }
+
+    /**
+     * Returns a vertex of smallest key in the tree containing {@code v}.
+     *
+     * @param  v the vertex
+     * @return a vertex of smallest key in the tree containing {@code v},
+     *         or -1 if every key in that tree is {@link Double#POSITIVE_INFINITY}
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int minKeyVertex(int v) {
+        validateVertex(v);
+        splay(v);
+        return best[v];
+    }
+
+    /**
+     * Marks or unmarks the tree edge named by {@code slot}.
+     *
+     * @param  slot the name of the tree edge
+     * @param  on whether the edge is marked
+     * @throws IllegalArgumentException unless {@code 0 <= slot < V-1}
+     * @throws IllegalArgumentException if {@code slot} is not in use
+     */
+    public void setMarked(int slot, boolean on) {
+        validateSlot(slot);
+        if (endpoint[slot] == -1) throw new IllegalArgumentException("slot " + slot + " is not in use");
+        int arc = V + 2 * slot;
+        splay(arc);
+        marked[arc] = on;
+        update(arc);
+    }
+
+    /**
+     * Returns a marked tree edge in the tree containing {@code v}.
+     *
+     * @param  v the vertex
+     * @return the slot of a marked tree edge in the tree containing {@code v},
+     *         or -1 if there is none
+     * @throws IllegalArgumentException unless {@code 0 <= v < V}
+     */
+    public int markedEdge(int v) {
+        validateVertex(v);
+        splay(v);
+        int arc = mark[v];
+        return arc == -1 ? -1 : (arc - V) / 2;
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= v < V}
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (V-1));
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= s < V-1}
+    private void validateSlot(int s) {
+        if (s < 0 || s >= endpoint.length)
+            throw new IllegalArgumentException("slot " + s + " is not between 0 and " + (endpoint.length-1));
+    }
+
+    /***************************************************************************
+     * Splay tree helper functions.
+     ***************************************************************************/
+    private int count(int x) {
+        return x == -1 ? 0 : count[x];
+    }
+
+    private void update(int x) {
+        int l = left[x];
+        int r = right[x];
+        count[x] = 1 + count(l) + count(r);
+        size[x] = (x < V ? 1 : 0) + (l == -1 ? 0 : size[l]) + (r == -1 ? 0 : size[r]);
+        int b = x < V && key[x] < Double.POSITIVE_INFINITY ? x : -1;
+        if (l != -1 && best[l] != -1 && (b == -1 || key[best[l]] < key[b])) b = best[l];
+        if (r != -1 && best[r] != -1 && (b == -1 || key[best[r]] < key[b])) b = best[r];
+        best[x] = b;
+        int m = marked[x] ? x : -1;
+        if (m == -1 && l != -1) m = mark[l];
+        if (m == -1 && r != -1) m = mark[r];
+        mark[x] = m;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        if (g != -1) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        parent[x] = g;
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != -1) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != -1) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        update(p);
+        update(x);
+    }
+
+    private void splay(int x) {
+        while (parent[x] != -1) {
+            int p = parent[x];
+            int g = parent[p];
+            if (g != -1) {
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    // splits the tour containing x just before x; returns the root of the part before x, or -1
+    private int splitBefore(int x) {
+        splay(x);
+        int l = left[x];
+        if (l != -1) {
+            parent[l] = -1;
+            left[x] = -1;
+            update(x);
+        }
+        return l;
+    }
+
+    // splits the tour containing x just after x; returns the root of the part after x, or -1
+    private int splitAfter(int x) {
+        splay(x);
+        int r = right[x];
+        if (r != -1) {
+            parent[r] = -1;
+            right[x] = -1;
+            update(x);
+        }
+        return r;
+    }
+
+    // concatenates the tours rooted at a and b; returns the root of the result
+    private int join(int a, int b) {
+        if (a == -1) return b;
+        if (b == -1) return a;
+        int last = a;
+        while (right[last] != -1) {
+            last = right[last];
+        }
+        splay(last);
+        right[last] = b;
+        parent[b] = last;
+        update(last);
+        return last;
+    }
+
+    // rotates the tour containing v so that it starts at v; returns its root
+    private int reroot(int v) {
+        int before = splitBefore(v);
+        return join(v, before);
+    }
+}
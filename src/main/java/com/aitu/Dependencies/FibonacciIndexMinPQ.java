@@ -0,0 +1,259 @@
+package com.aitu.Dependencies;
+
+import java.util.NoSuchElementException;
+
+/**
+ *  The {@code FibonacciIndexMinPQ} class represents an indexed priority queue
+ *  of primitive {@code double} keys implemented with a <em>Fibonacci heap</em>.
+ *  <p>
+ *  <em>insert</em> and <em>decrease-key</em> take &Theta;(1) amortized time
+ *  and <em>delete-the-minimum</em> takes <em>O</em>(log <em>n</em>) amortized
+ *  time, which gives Prim's algorithm its best known bound of
+ *  <em>O</em>(<em>E</em> + <em>V</em> log <em>V</em>). The constant factors
+ *  are larger than those of a binary heap, so the heap pays off only when
+ *  decrease-key dominates, as it does on dense graphs.
+ *  <p>
+ *  The tree nodes are the client indices themselves: parent, child,
+ *  circular sibling links, degree and mark are kept in parallel arrays,
+ *  so no operation allocates after construction.
+ */
+public class FibonacciIndexMinPQ implements IndexedMinPQ {
+    private static final int MAX_DEGREE = 64; // degree is at most log_phi(n) < 45 for any int n
+
+    private final int maxN;       // maximum number of elements on PQ
+    private int n;                // number of elements on PQ
+    private int min;              // root holding the minimum key, or -1
+    private final double[] keys;  // keys[i] = priority of i
+    private final int[] parent;   // parent[i] = parent of i, or -1 for a root
+    private final int[] child;    // child[i] = any child of i, or -1
+    private final int[] left;     // left[i] = left neighbor of i in its circular sibling list
+    private final int[] right;    // right[i] = right neighbor of i in its circular sibling list
+    private final int[] degree;   // degree[i] = number of children of i
+    private final boolean[] mark; // mark[i] = i has lost a child since it became a child itself
+    private final boolean[] inHeap;
+    private final int[] roots;    // scratch space for consolidate()
+    private final int[] byDegree = new int[MAX_DEGREE];
+
+    /**
+     * Initializes an empty indexed priority queue with indices between {@code 0}
+     * and {@code maxN - 1}.
+     *
+     * @param  maxN the keys on this priority queue are index from {@code 0}
+     *         {@code maxN - 1}
+     * @throws IllegalArgumentException if {@code maxN < 0}
+     */
+    public FibonacciIndexMinPQ(int maxN) {
+        if (maxN < 0) throw new IllegalArgumentException();
+        this.maxN = maxN;
+        n = 0;
+        min = -1;
+        keys = new double[maxN];
+        parent = new int[maxN];
+        child = new int[maxN];
+        left = new int[maxN];
+        right = new int[maxN];
+        degree = new int[maxN];
+        mark = new boolean[maxN];
+        inHeap = new boolean[maxN];
+        roots = new int[maxN];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean contains(int i) {
+        validateIndex(i);
+        return inHeap[i];
+    }
+
+    @Override
+    public void insert(int i, double key) {
+        validateIndex(i);
+        if (inHeap[i]) throw new IllegalArgumentException("index is already in the priority queue");
+        keys[i] = key;
+        parent[i] = child[i] = -1;
+        degree[i] = 0;
+        mark[i] = false;
+        inHeap[i] = true;
+        n++;
+        addRoot(i);
+    }
+
+    @Override
+    public int minIndex() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return min;
+    }
+
+    @Override
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return keys[min];
+    }
+
+    @Override
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int z = min;
+
+        // move the children of z to the root list
+        int c = child[z];
+        if (c != -1) {
+            int first = c;
+            do {
+                int nextChild = right[c];
+                parent[c] = -1;
+                mark[c] = false;
+                splice(c, z);
+                c = nextChild;
+            } while (c != first);
+            child[z] = -1;
+        }
+
+        int successor = right[z];
+        unlink(z);
+        inHeap[z] = false;
+        n--;
+        if (n == 0) min = -1;
+        else {
+            min = successor;
+            consolidate();
+        }
+        return z;
+    }
+
+    @Override
+    public double keyOf(int i) {
+        validateIndex(i);
+        if (!inHeap[i]) throw new NoSuchElementException("index is not in the priority queue");
+        return keys[i];
+    }
+
+    @Override
+    public void decreaseKey(int i, double key) {
+        validateIndex(i);
+        if (!inHeap[i]) throw new NoSuchElementException("index is not in the priority queue");
+        int cmp = Double.compare(keys[i], key);
+        if (cmp == 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key equal to the key in the priority queue");
+        if (cmp < 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key strictly greater than the key in the priority queue");
+        keys[i] = key;
+
+        int p = parent[i];
+        if (p != -1 && Double.compare(keys[i], keys[p]) < 0) {
+            cut(i, p);
+            // cascading cut: keep cutting marked ancestors
+            int x = p;
+            while (parent[x] != -1) {
+                if (!mark[x]) {
+                    mark[x] = true;
+                    break;
+                }
+                int up = parent[x];
+                cut(x, up);
+                x = up;
+            }
+        }
+        if (Double.compare(keys[i], keys[min]) < 0) min = i;
+    }
+
+    // links roots of equal degree until all degrees differ, then recomputes min
+    private void consolidate() {
+        int count = 0;
+        int x = min;
+        do {
+            roots[count++] = x;
+            x = right[x];
+        } while (x != min);
+
+        for (int d = 0; d < MAX_DEGREE; d++) {
+            byDegree[d] = -1;
+        }
+        for (int k = 0; k < count; k++) {
+            x = roots[k];
+            int d = degree[x];
+            while (byDegree[d] != -1) {
+                int y = byDegree[d];
+                if (Double.compare(keys[y], keys[x]) < 0) {
+                    int swap = x;
+                    x = y;
+                    y = swap;
+                }
+                link(y, x);
+                byDegree[d++] = -1;
+            }
+            byDegree[d] = x;
+        }
+
+        min = -1;
+        for (int d = 0; d < MAX_DEGREE; d++) {
+            int r = byDegree[d];
+            if (r != -1 && (min == -1 || Double.compare(keys[r], keys[min]) < 0)) min = r;
+        }
+    }
+
+    // makes root y a child of root x
+    private void link(int y, int x) {
+        unlink(y);
+        parent[y] = x;
+        mark[y] = false;
+        if (child[x] == -1) {
+            child[x] = y;
+            left[y] = right[y] = y;
+        } else {
+            splice(y, child[x]);
+        }
+        degree[x]++;
+    }
+
+    // moves child x of p to the root list
+    private void cut(int x, int p) {
+        if (right[x] == x) child[p] = -1;
+        else if (child[p] == x) child[p] = right[x];
+        unlink(x);
+        degree[p]--;
+        parent[x] = -1;
+        mark[x] = false;
+        splice(x, min);
+    }
+
+    private void addRoot(int x) {
+        if (min == -1) {
+            left[x] = right[x] = x;
+            min = x;
+        } else {
+            splice(x, min);
+            if (Double.compare(keys[x], keys[min]) < 0) min = x;
+        }
+    }
+
+    // inserts x to the right of y in y's circular list
+    private void splice(int x, int y) {
+        left[x] = y;
+        right[x] = right[y];
+        left[right[y]] = x;
+        right[y] = x;
+    }
+
+    // removes x from its circular list
+    private void unlink(int x) {
+        right[left[x]] = right[x];
+        left[right[x]] = left[x];
+        left[x] = right[x] = x;
+    }
+
+    // throw an IllegalArgumentException if i is an invalid index
+    private void validateIndex(int i) {
+        if (i < 0) throw new IllegalArgumentException("index is negative: " + i);
+        if (i >= maxN) throw new IllegalArgumentException("index >= capacity: " + i);
+    }
+}
@@ -0,0 +1,161 @@
+package com.aitu.Dependencies;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ *  The {@code IntMinPQ} class represents a priority queue of primitive
+ *  {@code int} items, each inserted with a {@code double} priority.
+ *  It supports the usual <em>insert</em> and <em>delete-the-minimum</em>
+ *  operations, along with peeking at the minimum item and its priority.
+ *  Items with equal priorities come out smallest item first, so the order
+ *  of removal is fully determined by the inserted pairs.
+ *  <p>
+ *  Unlike {@link IndexedMinPQ}, items are not required to be distinct and
+ *  cannot be looked up, which makes this the priority queue of choice for
+ *  <em>lazy</em> algorithms that insert edge ids and skip obsolete ones
+ *  when they are removed.
+ *  <p>
+ *  This implementation uses a binary heap stored in two parallel primitive
+ *  arrays that are resized as needed, so no operation boxes or allocates
+ *  except when the arrays grow.
+ *  The <em>insert</em> and <em>delete-the-minimum</em> operations take
+ *  &Theta;(log <em>n</em>) amortized time, where <em>n</em> is the number
+ *  of items in the priority queue. Building a priority queue from
+ *  <em>n</em> items at once takes &Theta;(<em>n</em>) time.
+ */
+public class IntMinPQ {
+    private int n;           // number of items on PQ
+    private int[] items;     // binary heap of items using 0-based indexing
+    private double[] keys;   // keys[k] = priority of items[k]
+
+    /**
+     * Initializes an empty priority queue with the given initial capacity.
+     *
+     * @param  initCapacity the initial capacity of this priority queue
+     * @throws IllegalArgumentException if {@code initCapacity < 0}
+     */
+    public IntMinPQ(int initCapacity) {
+        if (initCapacity < 0) throw new IllegalArgumentException();
+        items = new int[Math.max(initCapacity, 1)];
+        keys = new double[Math.max(initCapacity, 1)];
+        n = 0;
+    }
+
+    /**
+     * Initializes a priority queue holding {@code items[k]} with priority
+     * {@code keys[k]} for every {@code k}, using bottom-up heap construction.
+     * This takes &Theta;(<em>n</em>) time, less than inserting the items one by one.
+     * The arrays are copied.
+     *
+     * @param  items the items
+     * @param  keys the priority of every item
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public IntMinPQ(int[] items, double[] keys) {
+        if (items.length != keys.length) throw new IllegalArgumentException("items and keys must have the same length");
+        n = items.length;
+        this.items = Arrays.copyOf(items, Math.max(n, 1));
+        this.keys = Arrays.copyOf(keys, Math.max(n, 1));
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(k, this.items[k], this.keys[k]);
+        }
+    }
+
+    /**
+     * Returns true if this priority queue is empty.
+     *
+     * @return {@code true} if this priority queue is empty;
+     *         {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Returns the number of items on this priority queue.
+     *
+     * @return the number of items on this priority queue
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Adds {@code item} with priority {@code key} to this priority queue.
+     *
+     * @param  item the item to add
+     * @param  key the priority of the item
+     */
+    public void insert(int item, double key) {
+        if (n == items.length) {
+            items = Arrays.copyOf(items, 2 * n);
+            keys = Arrays.copyOf(keys, 2 * n);
+        }
+        int k = n++;
+        while (k > 0) {
+            int parent = (k - 1) / 2;
+            if (!less(item, key, items[parent], keys[parent])) break;
+            items[k] = items[parent];
+            keys[k] = keys[parent];
+            k = parent;
+        }
+        items[k] = item;
+        keys[k] = key;
+    }
+
+    /**
+     * Returns an item with the smallest priority.
+     *
+     * @return an item with the smallest priority
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public int min() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return items[0];
+    }
+
+    /**
+     * Returns the smallest priority.
+     *
+     * @return the smallest priority
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns an item with the smallest priority.
+     *
+     * @return an item with the smallest priority
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int min = items[0];
+        n--;
+        if (n > 0) sink(0, items[n], keys[n]);
+        return min;
+    }
+
+    // moves the hole at position k down until (item, key) fits
+    private void sink(int k, int item, double key) {
+        while (2 * k + 1 < n) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(items[j + 1], keys[j + 1], items[j], keys[j])) j++;
+            if (!less(items[j], keys[j], item, key)) break;
+            items[k] = items[j];
+            keys[k] = keys[j];
+            k = j;
+        }
+        items[k] = item;
+        keys[k] = key;
+    }
+
+    private static boolean less(int item, double key, int otherItem, double otherKey) {
+        int cmp = Double.compare(key, otherKey);
+        return cmp < 0 || (cmp == 0 && item < otherItem);
+    }
+}
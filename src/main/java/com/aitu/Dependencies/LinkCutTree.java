@@ -0,0 +1,256 @@
+package com.aitu.Dependencies;
+
+/**
+ *  The {@code LinkCutTree} class represents a forest of rooted trees over
+ *  the nodes 0 through <em>n</em>–1, each node carrying a {@code double}
+ *  value. It supports <em>link</em> (join two trees with a new tree edge),
+ *  <em>cut</em> (remove a tree edge), <em>connected</em> (are two nodes in the
+ *  same tree?) and <em>path maximum</em> (the node of largest value on
+ *  the tree path between two nodes).
+ *  <p>
+ *  Edges of a graph are best represented as nodes of their own, placed
+ *  between their two endpoints and carrying the edge weight, while the
+ *  nodes standing for vertices carry {@link Double#NEGATIVE_INFINITY};
+ *  the path maximum is then the heaviest edge on the path.
+ *  <p>
+ *  This implementation uses the <em>link-cut trees</em> of Sleator and
+ *  Tarjan: every tree is decomposed into preferred paths, each stored as a
+ *  splay tree keyed by depth, with a lazy reversal bit so that any node can
+ *  be made the root. Nodes live in parallel primitive arrays, so no
+ *  operation allocates.
+ *  The constructor takes &Theta;(<em>n</em>) time. All other operations
+ *  take <em>O</em>(log <em>n</em>) amortized time.
+ */
+public class LinkCutTree {
+    private final int n;
+    private final int[] left;       // left[x] = left child of x in its splay tree, or -1
+    private final int[] right;      // right[x] = right child of x in its splay tree, or -1
+    private final int[] parent;     // splay parent, or path-parent if x is the root of its splay tree
+    private final boolean[] flip;   // flip[x] = children of the splay subtree of x must be swapped
+    private final double[] value;   // value[x] = value of node x
+    private final int[] best;       // best[x] = node of largest value in the splay subtree of x
+    private final int[] stack;      // scratch space for pushing reversals down before a splay
+
+    /**
+     * Initializes a forest of {@code n} single-node trees whose values
+     * are all {@link Double#NEGATIVE_INFINITY}.
+     *
+     * @param  n the number of nodes
+     * @throws IllegalArgumentException if {@code n < 0}
+     */
+    public LinkCutTree(int n) {
+        if (n < 0) throw new IllegalArgumentException("Number of nodes must be non-negative");
+        this.n = n;
+        left = new int[n];
+        right = new int[n];
+        parent = new int[n];
+        flip = new boolean[n];
+        value = new double[n];
+        best = new int[n];
+        stack = new int[n];
+        for (int x = 0; x < n; x++) {
+            left[x] = -1;
+            right[x] = -1;
+            parent[x] = -1;
+            value[x] = Double.NEGATIVE_INFINITY;
+            best[x] = x;
+        }
+    }
+
+    /**
+     * Returns the value of node {@code x}.
+     *
+     * @param  x the node
+     * @return the value of node {@code x}
+     * @throws IllegalArgumentException unless {@code 0 <= x < n}
+     */
+    public double value(int x) {
+        validate(x);
+        return value[x];
+    }
+
+    /**
+     * Sets the value of node {@code x}.
+     *
+     * @param  x the node
+     * @param  val the new value
+     * @throws IllegalArgumentException unless {@code 0 <= x < n}
+     */
+    public void setValue(int x, double val) {
+        validate(x);
+        access(x);
+        value[x] = val;
+        pull(x);
+    }
+
+    /**
+     * Are nodes {@code u} and {@code v} in the same tree?
+     *
+     * @param  u one node
+     * @param  v the other node
+     * @return {@code true} if {@code u} and {@code v} are in the same tree;
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException unless both {@code 0 <= u < n} and {@code 0 <= v < n}
+     */
+    public boolean connected(int u, int v) {
+        validate(u);
+        validate(v);
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    /**
+     * Joins the trees of {@code u} and {@code v} with a tree edge between them.
+     *
+     * @param  u one node
+     * @param  v the other node
+     * @throws IllegalArgumentException unless both {@code 0 <= u < n} and {@code 0 <= v < n}
+     * @throws IllegalArgumentException if {@code u} and {@code v} are already in the same tree
+     */
+    public void link(int u, int v) {
+        if (connected(u, v)) throw new IllegalArgumentException("nodes " + u + " and " + v + " are already connected");
+        makeRoot(u);
+        parent[u] = v;
+    }
+
+    /**
+     * Removes the tree edge between {@code u} and {@code v}.
+     *
+     * @param  u one node
+     * @param  v the other node
+     * @throws IllegalArgumentException unless both {@code 0 <= u < n} and {@code 0 <= v < n}
+     * @throws IllegalArgumentException if there is no tree edge between {@code u} and {@code v}
+     */
+    public void cut(int u, int v) {
+        validate(u);
+        validate(v);
+        makeRoot(u);
+        access(v);
+        // u is adjacent to v exactly when it is the only node above v on the preferred path
+        if (left[v] != u || left[u] != -1 || right[u] != -1) throw new IllegalArgumentException("no tree edge between " + u + " and " + v);
+        left[v] = -1;
+        parent[u] = -1;
+        pull(v);
+    }
+
+    /**
+     * Returns a node of largest value on the tree path between {@code u} and {@code v},
+     * both included.
+     *
+     * @param  u one node
+     * @param  v the other node
+     * @return a node of largest value on the path between {@code u} and {@code v}
+     * @throws IllegalArgumentException unless both {@code 0 <= u < n} and {@code 0 <= v < n}
+     * @throws IllegalArgumentException if {@code u} and {@code v} are in different trees
+     */
+    public int pathMax(int u, int v) {
+        if (!connected(u, v)) throw new IllegalArgumentException("nodes " + u + " and " + v + " are not connected");
+        makeRoot(u);
+        access(v);
+        return best[v];
+    }
+
+    // throw an IllegalArgumentException unless {@code 0 <= x < n}
+    private void validate(int x) {
+        if (x < 0 || x >= n)
+            throw new IllegalArgumentException("node " + x + " is not between 0 and " + (n-1));
+    }
+
+    /***************************************************************************
+     * Splay tree helper functions.
+     ***************************************************************************/
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == -1 || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int b = x;
+        if (left[x] != -1 && value[best[left[x]]] > value[b]) b = best[left[x]];
+        if (right[x] != -1 && value[best[right[x]]] > value[b]) b = best[right[x]];
+        best[x] = b;
+    }
+
+    private void push(int x) {
+        if (!flip[x]) return;
+        int swap = left[x];
+        left[x] = right[x];
+        right[x] = swap;
+        if (left[x] != -1) flip[left[x]] ^= true;
+        if (right[x] != -1) flip[right[x]] ^= true;
+        flip[x] = false;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        if (!isSplayRoot(p)) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        parent[x] = g;
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != -1) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != -1) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        pull(p);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            stack[top++] = parent[y];
+        }
+        while (top > 0) {
+            push(stack[--top]);
+        }
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    /***************************************************************************
+     * Link-cut tree helper functions.
+     ***************************************************************************/
+    // make the path from the root of its tree to x preferred, with x at the root of its splay tree
+    private void access(int x) {
+        int last = -1;
+        for (int y = x; y != -1; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flip[x] ^= true;
+        push(x);
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        while (true) {
+            push(x);
+            if (left[x] == -1) break;
+            x = left[x];
+        }
+        splay(x);
+        return x;
+    }
+}
@@ -0,0 +1,174 @@
+package com.aitu.Dependencies;
+
+import java.util.NoSuchElementException;
+
+/**
+ *  The {@code PairingIndexMinPQ} class represents an indexed priority queue
+ *  of primitive {@code double} keys implemented with a <em>pairing heap</em>.
+ *  <p>
+ *  A pairing heap is a heap-ordered multiway tree. <em>insert</em> and
+ *  <em>decrease-key</em> just cut a subtree loose and link it with the root,
+ *  which takes &Theta;(1) time (decrease-key is <em>O</em>(1) amortized in
+ *  practice; its proven amortized bound is <em>o</em>(log <em>n</em>)).
+ *  <em>delete-the-minimum</em> links the children of the root pairwise
+ *  left to right and then combines the pairs right to left, taking
+ *  <em>O</em>(log <em>n</em>) amortized time.
+ *  <p>
+ *  The tree nodes are the client indices themselves: each index has its
+ *  key, leftmost child, right sibling and left neighbor (the left sibling,
+ *  or the parent for a leftmost child) in parallel arrays, so no operation
+ *  allocates after construction.
+ */
+public class PairingIndexMinPQ implements IndexedMinPQ {
+    private final int maxN;       // maximum number of elements on PQ
+    private int n;                // number of elements on PQ
+    private int root;             // index at the root of the heap, or -1
+    private final double[] keys;  // keys[i] = priority of i
+    private final int[] child;    // child[i] = leftmost child of i, or -1
+    private final int[] next;     // next[i] = right sibling of i, or -1
+    private final int[] prev;     // prev[i] = left sibling of i, parent if i is a leftmost child, or -1
+    private final boolean[] inHeap;
+    private final int[] pairs;    // scratch space for delMin()
+
+    /**
+     * Initializes an empty indexed priority queue with indices between {@code 0}
+     * and {@code maxN - 1}.
+     *
+     * @param  maxN the keys on this priority queue are index from {@code 0}
+     *         {@code maxN - 1}
+     * @throws IllegalArgumentException if {@code maxN < 0}
+     */
+    public PairingIndexMinPQ(int maxN) {
+        if (maxN < 0) throw new IllegalArgumentException();
+        this.maxN = maxN;
+        n = 0;
+        root = -1;
+        keys = new double[maxN];
+        child = new int[maxN];
+        next = new int[maxN];
+        prev = new int[maxN];
+        inHeap = new boolean[maxN];
+        pairs = new int[maxN];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean contains(int i) {
+        validateIndex(i);
+        return inHeap[i];
+    }
+
+    @Override
+    public void insert(int i, double key) {
+        validateIndex(i);
+        if (inHeap[i]) throw new IllegalArgumentException("index is already in the priority queue");
+        keys[i] = key;
+        child[i] = next[i] = prev[i] = -1;
+        inHeap[i] = true;
+        n++;
+        root = link(root, i);
+    }
+
+    @Override
+    public int minIndex() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return root;
+    }
+
+    @Override
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return keys[root];
+    }
+
+    @Override
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int min = root;
+        inHeap[min] = false;
+        n--;
+
+        // first pass: link the children in pairs, left to right
+        int count = 0;
+        int x = child[min];
+        while (x != -1) {
+            int y = next[x];
+            if (y == -1) {
+                prev[x] = -1;
+                pairs[count++] = x;
+                break;
+            }
+            int rest = next[y];
+            next[x] = prev[x] = next[y] = prev[y] = -1;
+            pairs[count++] = link(x, y);
+            x = rest;
+        }
+
+        // second pass: combine the pairs, right to left
+        int combined = -1;
+        for (int k = count - 1; k >= 0; k--) {
+            combined = link(combined, pairs[k]);
+        }
+        root = combined;
+        return min;
+    }
+
+    @Override
+    public double keyOf(int i) {
+        validateIndex(i);
+        if (!inHeap[i]) throw new NoSuchElementException("index is not in the priority queue");
+        return keys[i];
+    }
+
+    @Override
+    public void decreaseKey(int i, double key) {
+        validateIndex(i);
+        if (!inHeap[i]) throw new NoSuchElementException("index is not in the priority queue");
+        int cmp = Double.compare(keys[i], key);
+        if (cmp == 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key equal to the key in the priority queue");
+        if (cmp < 0)
+            throw new IllegalArgumentException("Calling decreaseKey() with a key strictly greater than the key in the priority queue");
+        keys[i] = key;
+        if (i == root) return;
+
+        // cut the subtree rooted at i and link it with the root
+        int left = prev[i];
+        if (child[left] == i) child[left] = next[i];
+        else next[left] = next[i];
+        if (next[i] != -1) prev[next[i]] = left;
+        next[i] = prev[i] = -1;
+        root = link(root, i);
+    }
+
+    // links two detached trees and returns the root of the result; a keeps the root on ties
+    private int link(int a, int b) {
+        if (a == -1) return b;
+        if (b == -1) return a;
+        if (Double.compare(keys[b], keys[a]) < 0) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        next[b] = child[a];
+        if (child[a] != -1) prev[child[a]] = b;
+        prev[b] = a;
+        child[a] = b;
+        return a;
+    }
+
+    // throw an IllegalArgumentException if i is an invalid index
+    private void validateIndex(int i) {
+        if (i < 0) throw new IllegalArgumentException("index is negative: " + i);
+        if (i >= maxN) throw new IllegalArgumentException("index >= capacity: " + i);
+    }
+}
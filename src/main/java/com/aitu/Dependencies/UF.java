@@ -71,7 +71,8 @@ package com.aitu.Dependencies;
  *  <a href = "https://en.wikipedia.org/wiki/Ackermann_function#Inverse">Ackermann's function</a>.
  *  <p>
  *  For alternative implementations of the same API, see
- *  {@link QuickUnionUF}, {@link QuickFindUF}, and {@link WeightedQuickUnionUF}.
+ *  {@link WeightedQuickUnionUF}, {@link WeightedQuickUnionPathCompressionUF},
+ *  and the thread-safe {@link ConcurrentUF}.
  *  For additional documentation, see
  *  <a href="https://algs4.cs.princeton.edu/15uf">Section 1.5</a> of
  *  <i>Algorithms, 4th Edition</i> by Robert Sedgewick and Kevin Wayne.
@@ -80,7 +81,7 @@ package com.aitu.Dependencies;
  *  @author Kevin Wayne
  */
 
-public class UF {
+public class UF implements UnionFind {
 
     private int[] parent;  // parent[i] = parent of i
     private byte[] rank;   // rank[i] = rank of subtree rooted at i (never more than 31)
@@ -112,8 +113,23 @@ public class UF {
      * @return the canonical element of the set containing {@code p}
      * @throws IllegalArgumentException unless {@code 0 <= p < n}
      */
+    @Override
     public int find(int p) {
         validate(p);
+        return findUnchecked(p);
+    }
+
+    /**
+     * Returns the canonical element of the set containing element {@code p},
+     * without checking that {@code p} is an element. This is meant for
+     * hot loops whose elements are known to be valid, such as the vertices
+     * of an already validated graph; an invalid {@code p} leads to an
+     * {@link ArrayIndexOutOfBoundsException} or, worse, a wrong answer.
+     *
+     * @param  p an element between {@code 0} and {@code n-1}
+     * @return the canonical element of the set containing {@code p}
+     */
+    public int findUnchecked(int p) {
         while (p != parent[p]) {
             parent[p] = parent[parent[p]];    // path compression by halving
             p = parent[p];
@@ -126,6 +142,7 @@ public class UF {
      *
      * @return the number of sets (between {@code 1} and {@code n})
      */
+    @Override
     public int count() {
         return count;
     }
@@ -155,11 +172,44 @@ public class UF {
      * @throws IllegalArgumentException unless
      *         both {@code 0 <= p < n} and {@code 0 <= q < n}
      */
+    @Override
     public void union(int p, int q) {
+        unionIfDisjoint(p, q);
+    }
+
+    /**
+     * Merges the set containing element {@code p} with the set containing
+     * element {@code q} if they are different sets.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @return {@code true} if the two sets were different and have been merged;
+     *         {@code false} if {@code p} and {@code q} were already in the same set
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    @Override
+    public boolean unionIfDisjoint(int p, int q) {
         int rootP = find(p);
         int rootQ = find(q);
-        if (rootP == rootQ) return;
+        if (rootP == rootQ) return false;
+        link(rootP, rootQ);
+        return true;
+    }
 
+    /**
+     * Merges the two sets whose canonical elements are {@code rootP} and
+     * {@code rootQ}. Unlike {@link #union(int, int)}, this does not find the
+     * canonical elements again, so a client that has just called
+     * {@link #find(int)} on both elements and found different canonical
+     * elements can merge the sets without repeating the work.
+     * Neither argument is checked: both must be canonical elements
+     * returned by {@code find} since the last merge, and they must differ.
+     *
+     * @param  rootP the canonical element of one set
+     * @param  rootQ the canonical element of another set
+     */
+    public void link(int rootP, int rootQ) {
         // make root of smaller rank point to root of larger rank
         if      (rank[rootP] < rank[rootQ]) parent[rootP] = rootQ;
         else if (rank[rootP] > rank[rootQ]) parent[rootQ] = rootP;
@@ -0,0 +1,62 @@
+package com.aitu.Dependencies;
+
+/**
+ *  The {@code UnionFind} interface is the API shared by the
+ *  <em>union–find data types</em> (also known as <em>disjoint-sets data types</em>)
+ *  over the elements 0 through <em>n</em>–1. It supports the classic
+ *  <em>union</em> and <em>find</em> operations, a <em>count</em> operation
+ *  that returns the total number of sets, and a fused
+ *  <em>union-if-disjoint</em> operation that finds both canonical elements
+ *  once and reports whether the two sets were merged.
+ *  <p>
+ *  Clients such as Kruskal's algorithm that test two elements and merge
+ *  their sets only if they differ should call
+ *  {@link #unionIfDisjoint(int, int)} rather than two calls to
+ *  {@link #find(int)} followed by {@link #union(int, int)}, which would
+ *  find both canonical elements twice.
+ *  <p>
+ *  Implementations differ in how they link trees and compress paths, and
+ *  therefore in which element becomes the canonical element of a merged set.
+ */
+public interface UnionFind {
+
+    /**
+     * Returns the canonical element of the set containing element {@code p}.
+     *
+     * @param  p an element
+     * @return the canonical element of the set containing {@code p}
+     * @throws IllegalArgumentException unless {@code 0 <= p < n}
+     */
+    int find(int p);
+
+    /**
+     * Returns the number of sets.
+     *
+     * @return the number of sets (between {@code 1} and {@code n})
+     */
+    int count();
+
+    /**
+     * Merges the set containing element {@code p} with the set
+     * containing element {@code q}.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    void union(int p, int q);
+
+    /**
+     * Merges the set containing element {@code p} with the set containing
+     * element {@code q} if they are different sets.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @return {@code true} if the two sets were different and have been merged;
+     *         {@code false} if {@code p} and {@code q} were already in the same set
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    boolean unionIfDisjoint(int p, int q);
+}
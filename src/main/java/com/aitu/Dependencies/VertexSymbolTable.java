@@ -0,0 +1,105 @@
+package com.aitu.Dependencies;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  The {@code VertexSymbolTable} class maps vertex names to the integer
+ *  vertices 0 through <em>V</em>–1 used by the graph classes, and back.
+ *  Names are assigned consecutive indices in the order they are added.
+ *  <p>
+ *  This implementation uses a {@link HashMap} from names to indices and a
+ *  resizing array of names indexed by vertex, so that <em>indexOf</em>
+ *  takes expected constant time and <em>nameOf</em> takes constant time.
+ *  <em>add</em> takes amortized expected constant time.
+ */
+public class VertexSymbolTable {
+    private final Map<String, Integer> index;  // index.get(name) = vertex with that name
+    private String[] names;                    // names[v] = name of vertex v
+    private int size;
+
+    /**
+     * Initializes an empty symbol table.
+     */
+    public VertexSymbolTable() {
+        this(16);
+    }
+
+    /**
+     * Initializes an empty symbol table with room for {@code capacity}
+     * names before it has to grow.
+     *
+     * @param  capacity the expected number of vertices
+     * @throws IllegalArgumentException if {@code capacity < 0}
+     */
+    public VertexSymbolTable(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must be non-negative");
+        index = new HashMap<>(Math.max(16, (int) (capacity / 0.75f) + 1));
+        names = new String[Math.max(1, capacity)];
+    }
+
+    /**
+     * Adds a name as the next vertex, unless it is already present.
+     *
+     * @param  name the vertex name
+     * @return the vertex with that name
+     * @throws IllegalArgumentException if {@code name} is {@code null}
+     */
+    public int add(String name) {
+        if (name == null) throw new IllegalArgumentException("Vertex name is null");
+        Integer v = index.get(name);
+        if (v != null) return v;
+        if (size == names.length) names = Arrays.copyOf(names, 2 * size);
+        names[size] = name;
+        index.put(name, size);
+        return size++;
+    }
+
+    /**
+     * Does the symbol table contain the given name?
+     *
+     * @param  name the vertex name
+     * @return {@code true} if {@code name} has a vertex, {@code false} otherwise
+     */
+    public boolean contains(String name) {
+        return index.containsKey(name);
+    }
+
+    /**
+     * Returns the vertex with the given name.
+     *
+     * @param  name the vertex name
+     * @return the vertex with that name, or -1 if there is none
+     */
+    public int indexOf(String name) {
+        Integer v = index.get(name);
+        return v == null ? -1 : v;
+    }
+
+    /**
+     * Returns the name of the given vertex.
+     *
+     * @param  v the vertex
+     * @return the name of vertex {@code v}
+     * @throws IllegalArgumentException unless {@code 0 <= v < size()}
+     */
+    public String nameOf(int v) {
+        validateVertex(v);
+        return names[v];
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= size)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (size - 1));
+    }
+}
@@ -0,0 +1,170 @@
+package com.aitu.Dependencies;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ *  The {@code WeightRadixSort} class sorts edge ids by edge weight without
+ *  comparing {@link Edge} objects. Given the weights of edges
+ *  0 through <em>E</em> – 1, it returns the edge ids ordered by weight,
+ *  with equal weights in increasing id order. This is the order a stable
+ *  sort of the edges by {@link Edge#compareTo} would produce.
+ *  <p>
+ *  Each weight is mapped to a 64-bit key whose unsigned order matches
+ *  {@link Double#compare}: the sign bit of a non-negative weight is set,
+ *  and all bits of a negative weight are flipped. For non-negative weights
+ *  the key is just the raw IEEE-754 bits with the top bit set. The keys are
+ *  then sorted by a stable least-significant-digit radix sort that carries
+ *  the ids along. It makes six passes of 11 bits each and skips any pass
+ *  where every key has the same digit. Sorting takes &Theta;(<em>E</em>)
+ *  time and &Theta;(<em>E</em>) extra space.
+ *  <p>
+ *  {@link #sort} runs on the calling thread. {@link #parallelSort} splits
+ *  the keys into one chunk per worker. Each worker counts the digits of its
+ *  chunk. The counts are combined into per-chunk bucket offsets, so every
+ *  worker can then scatter its chunk independently and the sort stays stable.
+ */
+public class WeightRadixSort {
+    private static final int BITS = 11;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = (64 + BITS - 1) / BITS;
+
+    // below this many keys per worker, splitting the work costs more than it saves
+    private static final int MIN_CHUNK = 1 << 16;
+
+    // this class should not be instantiated
+    private WeightRadixSort() { }
+
+    /**
+     * Returns the ids {@code 0} through {@code weights.length - 1} sorted by
+     * weight, breaking ties by id, on the calling thread.
+     *
+     * @param  weights the weight of every edge
+     * @return the edge ids in ascending order of weight
+     * @throws IllegalArgumentException if a weight is {@code NaN}
+     */
+    public static int[] sort(double[] weights) {
+        return radixSort(weights, 1, null);
+    }
+
+    /**
+     * Returns the ids {@code 0} through {@code weights.length - 1} sorted by
+     * weight, breaking ties by id, using the workers of {@code pool}.
+     *
+     * @param  weights the weight of every edge
+     * @param  pool the pool whose workers sort the chunks
+     * @return the edge ids in ascending order of weight
+     * @throws IllegalArgumentException if a weight is {@code NaN}
+     */
+    public static int[] parallelSort(double[] weights, ForkJoinPool pool) {
+        int n = weights.length;
+        int chunks = Math.max(1, Math.min(pool.getParallelism(), n / MIN_CHUNK));
+        return radixSort(weights, chunks, pool);
+    }
+
+    private static int[] radixSort(double[] weights, int chunks, ForkJoinPool pool) {
+        int n = weights.length;
+        int chunkSize = (n + chunks - 1) / Math.max(chunks, 1);
+        long[] keys = new long[n];
+        int[] ids = new int[n];
+        long[] keysAux = new long[n];
+        int[] idsAux = new int[n];
+
+        forEachChunk(pool, chunks, c -> {
+            for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                keys[i] = key(weights[i]);
+                ids[i] = i;
+            }
+        });
+
+        int[][] count = new int[chunks][RADIX];
+        long[] srcKeys = keys, dstKeys = keysAux;
+        int[] srcIds = ids, dstIds = idsAux;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * BITS;
+            long[] from = srcKeys;
+            forEachChunk(pool, chunks, c -> {
+                int[] histogram = count[c];
+                Arrays.fill(histogram, 0);
+                for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                    histogram[(int) (from[i] >>> shift) & MASK]++;
+                }
+            });
+
+            // turn the counts into starting offsets: bucket-major, then chunk order, which keeps the sort stable
+            boolean trivial = false;
+            int offset = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int bucketTotal = 0;
+                for (int c = 0; c < chunks; c++) {
+                    int size = count[c][b];
+                    count[c][b] = offset;
+                    offset += size;
+                    bucketTotal += size;
+                }
+                if (bucketTotal == n) trivial = true;
+            }
+            if (trivial) continue;
+
+            long[] toKeys = dstKeys;
+            int[] fromIds = srcIds, toIds = dstIds;
+            forEachChunk(pool, chunks, c -> {
+                int[] next = count[c];
+                for (int i = c * chunkSize, end = Math.min(n, i + chunkSize); i < end; i++) {
+                    int position = next[(int) (from[i] >>> shift) & MASK]++;
+                    toKeys[position] = from[i];
+                    toIds[position] = fromIds[i];
+                }
+            });
+
+            srcKeys = dstKeys;
+            dstKeys = from;
+            srcIds = dstIds;
+            dstIds = fromIds;
+        }
+        return srcIds;
+    }
+
+    // maps a weight to a key whose unsigned order is the order of Double.compare
+    private static long key(double weight) {
+        if (Double.isNaN(weight)) throw new IllegalArgumentException("Weight is NaN");
+        long bits = Double.doubleToRawLongBits(weight);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    // runs body(0) .. body(chunks - 1) on the pool, or inline when there is a single chunk
+    private static void forEachChunk(ForkJoinPool pool, int chunks, IntConsumer body) {
+        if (chunks == 1 || pool == null) {
+            for (int c = 0; c < chunks; c++) body.accept(c);
+            return;
+        }
+        pool.invoke(new ChunkTask(0, chunks, body));
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final IntConsumer body;
+
+        ChunkTask(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                body.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(lo, mid, body), new ChunkTask(mid, hi, body));
+        }
+    }
+}
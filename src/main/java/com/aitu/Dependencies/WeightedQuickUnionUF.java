@@ -0,0 +1,139 @@
+package com.aitu.Dependencies;
+
+/**
+ *  The {@code WeightedQuickUnionUF} class represents a
+ *  <em>union–find data type</em> (also known as the <em>disjoint-sets data type</em>).
+ *  It supports the same operations as {@link UF}: <em>union</em>,
+ *  <em>find</em>, <em>count</em> and the fused <em>union-if-disjoint</em>.
+ *  <p>
+ *  This implementation uses <em>weighted quick union by size</em>
+ *  with <em>path compression by halving</em>: the root of the smaller
+ *  tree is linked to the root of the larger one, and every <em>find</em>
+ *  makes each examined element point to its grandparent.
+ *  Sizes are exact, unlike ranks, so they can be reported by
+ *  {@link #size(int)}.
+ *  The constructor takes &Theta;(<em>n</em>) time, where
+ *  <em>n</em> is the number of elements.
+ *  The <em>union</em> and <em>find</em> operations take
+ *  &Theta;(log <em>n</em>) time in the worst case, and any intermixed
+ *  sequence of <em>m</em> operations takes
+ *  <em>O</em>(<em>m</em> &alpha;(<em>n</em>)) time.
+ *  The <em>count</em> operation takes &Theta;(1) time.
+ *  <p>
+ *  For a variant that compresses paths fully, see
+ *  {@link WeightedQuickUnionPathCompressionUF}.
+ */
+public class WeightedQuickUnionUF implements UnionFind {
+    private final int[] parent;  // parent[i] = parent of i
+    private final int[] size;    // size[i] = number of elements in subtree rooted at i
+    private int count;           // number of components
+
+    /**
+     * Initializes an empty union-find data structure with
+     * {@code n} elements {@code 0} through {@code n-1}.
+     * Initially, each element is in its own set.
+     *
+     * @param  n the number of elements
+     * @throws IllegalArgumentException if {@code n < 0}
+     */
+    public WeightedQuickUnionUF(int n) {
+        if (n < 0) throw new IllegalArgumentException();
+        count = n;
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    /**
+     * Returns the canonical element of the set containing element {@code p}.
+     *
+     * @param  p an element
+     * @return the canonical element of the set containing {@code p}
+     * @throws IllegalArgumentException unless {@code 0 <= p < n}
+     */
+    @Override
+    public int find(int p) {
+        validate(p);
+        while (p != parent[p]) {
+            parent[p] = parent[parent[p]];    // path compression by halving
+            p = parent[p];
+        }
+        return p;
+    }
+
+    /**
+     * Returns the number of sets.
+     *
+     * @return the number of sets (between {@code 1} and {@code n})
+     */
+    @Override
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of elements in the set containing element {@code p}.
+     *
+     * @param  p an element
+     * @return the number of elements in the set containing {@code p}
+     * @throws IllegalArgumentException unless {@code 0 <= p < n}
+     */
+    public int size(int p) {
+        return size[find(p)];
+    }
+
+    /**
+     * Merges the set containing element {@code p} with the set
+     * containing element {@code q}.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    @Override
+    public void union(int p, int q) {
+        unionIfDisjoint(p, q);
+    }
+
+    /**
+     * Merges the set containing element {@code p} with the set containing
+     * element {@code q} if they are different sets.
+     *
+     * @param  p one element
+     * @param  q the other element
+     * @return {@code true} if the two sets were different and have been merged;
+     *         {@code false} if {@code p} and {@code q} were already in the same set
+     * @throws IllegalArgumentException unless
+     *         both {@code 0 <= p < n} and {@code 0 <= q < n}
+     */
+    @Override
+    public boolean unionIfDisjoint(int p, int q) {
+        int rootP = find(p);
+        int rootQ = find(q);
+        if (rootP == rootQ) return false;
+
+        // make smaller root point to larger one
+        if (size[rootP] < size[rootQ]) {
+            parent[rootP] = rootQ;
+            size[rootQ] += size[rootP];
+        }
+        else {
+            parent[rootQ] = rootP;
+            size[rootP] += size[rootQ];
+        }
+        count--;
+        return true;
+    }
+
+    // validate that p is a valid index
+    private void validate(int p) {
+        int n = parent.length;
+        if (p < 0 || p >= n) {
+            throw new IllegalArgumentException("index " + p + " is not between 0 and " + (n-1));
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// keeps a minimum spanning forest up to date as edges are added, deleted and re-weighted. The forest
+// lives in a link-cut tree where vertex v is node v and every tree edge is a node of its own between
+// its endpoints, so the heaviest edge on the cycle a new edge closes is a path-maximum query.
+// Deletions follow Holm, de Lichtenberg and Thorup: every edge has a level between 0 and log V, level i
+// keeps an Euler-tour forest of the tree edges of level i or more whose trees have at most V / 2^i
+// vertices, and a non-tree edge of level i has both ends in one of those trees. When a tree edge goes,
+// each level from its own down to 0 searches the smaller side of the cut: its non-tree edges are tried
+// lightest first, and those that stay inside it move up a level together with its tree edges.
+// New edges enter at level 0 without HDT's decremental-to-fully-dynamic reduction, so the lightest
+// edge across a cut is not always on the highest level that has one: every level is searched, and the
+// edges left crossing above the chosen level move down to it. HDT's amortized bound rests on levels only
+// going up, and a demoted edge can be promoted and searched again, so no polylogarithmic bound is proven
+// here: a search costs O(log V) Euler-tour operations per level plus O(log V) per edge it moves.
+// An insertion that closes a cycle with a heavier edge already knows the replacement. It swaps the two in
+// O(log V) when the heavier edge is on level 0; otherwise every level above 0 that the heavier edge was on
+// is searched as well, to move down the edges crossing it, at the same unproven cost.
+// Edges are identified by reference: delete and re-weight the same Edge object that was added.
+public class DynamicMST {
+    private final int vertices;
+    private final LinkCutTree tree;
+    private final Edge[] slotEdge;     // slotEdge[s] = tree edge stored in node vertices + s, or null
+    private final int[] slotLevel;     // slotLevel[s] = level of that tree edge
+    private final int[] freeSlots;
+    private int freeCount;
+    private final Map<Edge, Integer> slotOf = new IdentityHashMap<>();
+    private final Map<Edge, NonTreeEdge> nonTree = new IdentityHashMap<>();
+    private long added;
+    private int treeEdges;
+    private double totalWeight;
+
+    // forests[i] links the tree edges of level i or more and marks those of level exactly i. It keys every
+    // vertex by its lightest non-tree edge of level i, from the weight-ordered set incident.get(i).get(v).
+    // Both take space in V, so a level is only set up once an edge reaches it
+    private final EulerTourTree[] forests;
+    private final List<List<TreeSet<NonTreeEdge>>> incident;
+
+    // scratch space for the replacement search, mostly one entry per level
+    private final int[] smaller;
+    private final List<List<NonTreeEdge>> inside;
+    private final List<NonTreeEdge> dropped = new ArrayList<>();
+
+    // a non-tree edge with its level; equal weights are ordered by insertion
+    private static final class NonTreeEdge implements Comparable<NonTreeEdge> {
+        private final Edge edge;
+        private final long order;
+        private int level;
+
+        private NonTreeEdge(Edge edge, long order, int level) {
+            this.edge = edge;
+            this.order = order;
+            this.level = level;
+        }
+
+        @Override
+        public int compareTo(NonTreeEdge that) {
+            int cmp = edge.compareTo(that.edge);
+            return cmp != 0 ? cmp : Long.compare(order, that.order);
+        }
+    }
+
+    public DynamicMST(int vertices) {
+        if (vertices < 0) throw new IllegalArgumentException("Number of vertices must be non-negative");
+        this.vertices = vertices;
+        // a forest on V vertices never has more than V - 1 edges, so edge nodes are recycled
+        int slots = Math.max(vertices - 1, 0);
+        this.tree = new LinkCutTree(vertices + slots);
+        this.slotEdge = new Edge[slots];
+        this.slotLevel = new int[slots];
+        this.freeSlots = new int[slots];
+        for (int s = 0; s < slots; s++) {
+            freeSlots[freeCount++] = slots - 1 - s;
+        }
+
+        // a tree of level i has at most V / 2^i vertices, so an edge never rises above level log V
+        int levels = 32 - Integer.numberOfLeadingZeros(Math.max(vertices, 1));
+        this.forests = new EulerTourTree[levels];
+        this.incident = new ArrayList<>(Collections.nCopies(levels, null));
+        forest(0);
+        this.smaller = new int[levels];
+        this.inside = new ArrayList<>(levels);
+        for (int i = 0; i < levels; i++) {
+            inside.add(new ArrayList<>());
+        }
+    }
+
+    public DynamicMST(EdgeWeightedGraph graph) {
+        this(graph.V());
+        for (Edge e : new KruskalMST(graph, new Metrics(), KruskalMST.Strategy.SORT, true).edges()) {
+            attach(e, 0);
+        }
+        for (Edge e : graph.edges()) {
+            if (!slotOf.containsKey(e)) {
+                addNonTree(e, 0);
+            }
+        }
+    }
+
+    // returns true if the edge joined the forest, possibly replacing the heaviest edge on the cycle it closes
+    public boolean addEdge(Edge e) {
+        int v = e.either();
+        int w = e.other(v);
+        validateVertex(v);
+        validateVertex(w);
+        if (contains(e)) throw new IllegalArgumentException("edge " + e + " is already in the graph");
+
+        if (v == w) {
+            addNonTree(e, 0);
+            return false;
+        }
+        if (!tree.connected(v, w)) {
+            attach(e, 0);
+            return true;
+        }
+        Edge heaviest = slotEdge[tree.pathMax(v, w) - vertices];
+        if (heaviest.weight() <= e.weight()) {
+            addNonTree(e, 0);
+            return false;
+        }
+        swap(heaviest, e);
+        addNonTree(heaviest, 0);
+        return true;
+    }
+
+    // returns true if the edge was in the forest; its replacement, if any, is the lightest edge across the cut
+    public boolean deleteEdge(Edge e) {
+        if (!contains(e)) throw new IllegalArgumentException("edge " + e + " is not in the graph");
+        NonTreeEdge f = nonTree.get(e);
+        if (f != null) {
+            removeNonTree(f);
+            return false;
+        }
+        replace(e);
+        return true;
+    }
+
+    // Edge is immutable, so the edge is replaced by a new one with the same endpoints, which is returned
+    public Edge changeWeight(Edge e, double weight) {
+        if (!contains(e)) throw new IllegalArgumentException("edge " + e + " is not in the graph");
+        if (Double.isNaN(weight)) throw new IllegalArgumentException("Weight is NaN");
+        int v = e.either();
+        Edge changed = new Edge(v, e.other(v), weight);
+
+        Integer slot = slotOf.get(e);
+        NonTreeEdge f = nonTree.get(e);
+        if (slot != null && weight <= e.weight()) {
+            // a lighter tree edge stays in the tree
+            replaceTreeEdge(slot, e, changed);
+        } else if (f != null && weight >= e.weight()) {
+            // a heavier non-tree edge stays out of it, on the same level
+            removeNonTree(f);
+            addNonTree(changed, f.level);
+        } else {
+            deleteEdge(e);
+            addEdge(changed);
+        }
+        return changed;
+    }
+
+    public boolean contains(Edge e) {
+        return slotOf.containsKey(e) || nonTree.containsKey(e);
+    }
+
+    // removes tree edge e and brings in the lightest edge across the cut, if there is one
+    private void replace(Edge e) {
+        int top = detach(e);
+        int v = e.either();
+        int w = e.other(v);
+        // first find the lightest crossing edge of every level; the level changes wait for repair, since
+        // moving tree edges up from one level merges the trees of the level above
+        NonTreeEdge best = null;
+        for (int i = top; i >= 0; i--) {
+            EulerTourTree forest = forests[i];
+            smaller[i] = forest.size(v) <= forest.size(w) ? v : w;
+            NonTreeEdge f = sweep(i, smaller[i]);
+            if (f != null && (best == null || f.edge.weight() < best.edge.weight())) {
+                best = f;
+            }
+        }
+        if (best == null) {
+            repair(top, -1);
+            return;
+        }
+        int level = best.level;
+        repair(top, level);
+        removeNonTree(best);
+        attach(best.edge, level);
+    }
+
+    // replaces tree edge out with non-tree edge in, which crosses the cut that removing out leaves; in
+    // joins the two sides on level 0 only, so just the levels above it need repair
+    private void swap(Edge out, Edge in) {
+        int top = detach(out);
+        int v = out.either();
+        int w = out.other(v);
+        for (int i = top; i > 0; i--) {
+            EulerTourTree forest = forests[i];
+            smaller[i] = forest.size(v) <= forest.size(w) ? v : w;
+        }
+        repair(top, 0);
+        attach(in, 0);
+    }
+
+    // once a tree edge of level top is gone and its replacement will join the sides on the given level,
+    // moves every non-tree edge crossing from smaller[i] on a level above that down to it, and the edges
+    // set aside inside smaller[i] up a level together with its tree edges; top down, since moving tree
+    // edges up from level i changes only the trees of level i + 1
+    private void repair(int top, int level) {
+        for (int i = top; i >= 0; i--) {
+            if (i > level) {
+                NonTreeEdge f;
+                while ((f = sweep(i, smaller[i])) != null) {
+                    unstore(f);
+                    dropped.add(f);
+                }
+            }
+            if (!inside.get(i).isEmpty()) {
+                // the smaller side has at most V / 2^(i+1) vertices, so it can become a tree of level i + 1
+                int slot;
+                while ((slot = forests[i].markedEdge(smaller[i])) != -1) {
+                    promote(slot, i);
+                }
+                for (NonTreeEdge f : inside.get(i)) {
+                    store(f, i + 1);
+                }
+                inside.get(i).clear();
+            }
+        }
+        for (NonTreeEdge f : dropped) {
+            store(f, level);
+        }
+        dropped.clear();
+    }
+
+    // takes the non-tree edges of this level at the tree of small lightest first, setting aside in
+    // inside.get(level) those that stay inside it, and returns the first that leaves it or null
+    private NonTreeEdge sweep(int level, int small) {
+        EulerTourTree forest = forests[level];
+        int x;
+        while ((x = forest.minKeyVertex(small)) != -1) {
+            NonTreeEdge f = incident.get(level).get(x).first();
+            if (!forest.connected(small, f.edge.other(x))) {
+                return f;
+            }
+            unstore(f);
+            inside.get(level).add(f);
+        }
+        return null;
+    }
+
+    private void promote(int slot, int level) {
+        Edge e = slotEdge[slot];
+        int v = e.either();
+        forests[level].setMarked(slot, false);
+        forest(level + 1).link(v, e.other(v), slot);
+        forests[level + 1].setMarked(slot, true);
+        slotLevel[slot] = level + 1;
+    }
+
+    private void attach(Edge e, int level) {
+        int v = e.either();
+        int w = e.other(v);
+        int slot = freeSlots[--freeCount];
+        int node = vertices + slot;
+        slotEdge[slot] = e;
+        slotLevel[slot] = level;
+        slotOf.put(e, slot);
+        tree.setValue(node, e.weight());
+        tree.link(v, node);
+        tree.link(node, w);
+        for (int i = 0; i <= level; i++) {
+            forests[i].link(v, w, slot);
+        }
+        forests[level].setMarked(slot, true);
+        treeEdges++;
+        totalWeight += e.weight();
+    }
+
+    // returns the level the tree edge had
+    private int detach(Edge e) {
+        int slot = slotOf.remove(e);
+        int node = vertices + slot;
+        int v = e.either();
+        int w = e.other(v);
+        tree.cut(v, node);
+        tree.cut(node, w);
+        int level = slotLevel[slot];
+        for (int i = 0; i <= level; i++) {
+            forests[i].cut(slot);
+        }
+        slotEdge[slot] = null;
+        freeSlots[freeCount++] = slot;
+        treeEdges--;
+        totalWeight -= e.weight();
+        return level;
+    }
+
+    private void replaceTreeEdge(int slot, Edge old, Edge changed) {
+        slotOf.remove(old);
+        slotOf.put(changed, slot);
+        slotEdge[slot] = changed;
+        tree.setValue(vertices + slot, changed.weight());
+        totalWeight += changed.weight() - old.weight();
+    }
+
+    private void addNonTree(Edge e, int level) {
+        NonTreeEdge f = new NonTreeEdge(e, added++, level);
+        nonTree.put(e, f);
+        // a self-loop never crosses a cut, so it stays out of the search
+        if (e.either() != e.other(e.either())) {
+            store(f, level);
+        }
+    }
+
+    private void removeNonTree(NonTreeEdge f) {
+        nonTree.remove(f.edge);
+        if (f.edge.either() != f.edge.other(f.edge.either())) {
+            unstore(f);
+        }
+    }
+
+    private void store(NonTreeEdge f, int level) {
+        int v = f.edge.either();
+        f.level = level;
+        insertIncident(f, v);
+        insertIncident(f, f.edge.other(v));
+    }
+
+    private void unstore(NonTreeEdge f) {
+        int v = f.edge.either();
+        removeIncident(f, v);
+        removeIncident(f, f.edge.other(v));
+    }
+
+    private void insertIncident(NonTreeEdge f, int v) {
+        EulerTourTree forest = forest(f.level);
+        List<TreeSet<NonTreeEdge>> sets = incident.get(f.level);
+        TreeSet<NonTreeEdge> set = sets.get(v);
+        if (set == null) {
+            set = new TreeSet<>();
+            sets.set(v, set);
+        }
+        set.add(f);
+        if (set.first() == f) {
+            forest.setKey(v, f.edge.weight());
+        }
+    }
+
+    private void removeIncident(NonTreeEdge f, int v) {
+        List<TreeSet<NonTreeEdge>> sets = incident.get(f.level);
+        TreeSet<NonTreeEdge> set = sets.get(v);
+        boolean lightest = set.first() == f;
+        set.remove(f);
+        if (set.isEmpty()) {
+            sets.set(v, null);
+            forests[f.level].setKey(v, Double.POSITIVE_INFINITY);
+        } else if (lightest) {
+            forests[f.level].setKey(v, set.first().edge.weight());
+        }
+    }
+
+    private EulerTourTree forest(int level) {
+        if (forests[level] == null) {
+            forests[level] = new EulerTourTree(vertices);
+            incident.set(level, new ArrayList<>(Collections.nCopies(vertices, null)));
+        }
+        return forests[level];
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (vertices - 1));
+    }
+
+    public Iterable<Edge> edges() {
+        Queue<Edge> mstEdges = new Queue<>();
+        for (Edge e : slotEdge) {
+            if (e != null) {
+                mstEdges.enqueue(e);
+            }
+        }
+        return mstEdges;
+    }
+
+    public double weight() {
+        return totalWeight;
+    }
+
+    public int componentCount() {
+        return vertices - treeEdges;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgesCount() {
+        return treeEdges + nonTree.size();
+    }
+}
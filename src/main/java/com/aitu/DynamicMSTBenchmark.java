@@ -0,0 +1,117 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class DynamicMSTBenchmark {
+    private static final long SEED = 42;
+    private static final int UPDATES = 1_000_000;
+    private static final int FALLBACK_VERTICES = 20_000;
+    private static final int REPORT_EVERY = 100_000;
+
+    // replays random insertions, deletions and weight changes against the largest graph of
+    // data/input.json (or a random graph if there is none) and compares with rebuilding Kruskal
+    public static void main(String[] args) throws IOException {
+        int updates = args.length > 0 ? Integer.parseInt(args[0]) : UPDATES;
+        EdgeWeightedGraph graph = loadGraph();
+        int V = graph.V();
+        System.out.printf("%d vertices, %d edges, %d updates%n", V, graph.E(), updates);
+
+        Metrics rebuild = new Metrics();
+        new KruskalMST(graph, rebuild, KruskalMST.Strategy.SORT, true);
+
+        long start = System.nanoTime();
+        DynamicMST mst = new DynamicMST(graph);
+        System.out.printf("initial forest built in %.3f ms, one Kruskal rebuild takes %.3f ms%n",
+                (System.nanoTime() - start) / 1_000_000.0, rebuild.getExecutionTimeMs());
+
+        List<Edge> live = new ArrayList<>();
+        for (Edge e : graph.edges()) {
+            live.add(e);
+        }
+        double maxWeight = 0.0;
+        for (Edge e : live) {
+            maxWeight = Math.max(maxWeight, e.weight());
+        }
+
+        // insertions are timed apart by what they do to the forest: join two trees, swap out the heaviest
+        // edge on the cycle they close, or stay out of it
+        Random random = new Random(SEED);
+        String[] names = {"insert (link)", "insert (swap)", "insert (none)", "delete", "change weight"};
+        long[] counts = new long[names.length];
+        long[] nanos = new long[names.length];
+        System.out.printf("%10s %12s %14s %12s%n", "updates", "elapsed ms", "avg us/update", "forest cost");
+        start = System.nanoTime();
+        for (int step = 1; step <= updates; step++) {
+            int op = live.isEmpty() ? 0 : random.nextInt(3);
+            int components = mst.componentCount();
+            long opStart = System.nanoTime();
+            if (op == 0) {
+                Edge e = new Edge(random.nextInt(V), random.nextInt(V), random.nextDouble() * maxWeight);
+                if (!mst.addEdge(e)) op = 2;
+                else if (mst.componentCount() == components) op = 1;
+                live.add(e);
+            } else {
+                op += 2;
+                int index = random.nextInt(live.size());
+                Edge e = live.get(index);
+                if (op == 3) {
+                    mst.deleteEdge(e);
+                    live.set(index, live.get(live.size() - 1));
+                    live.remove(live.size() - 1);
+                } else {
+                    live.set(index, mst.changeWeight(e, random.nextDouble() * maxWeight));
+                }
+            }
+            nanos[op] += System.nanoTime() - opStart;
+            counts[op]++;
+
+            if (step % REPORT_EVERY == 0 || step == updates) {
+                double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+                System.out.printf("%10d %12.3f %14.3f %12.2f%n", step, elapsed, elapsed * 1000 / step, mst.weight());
+            }
+        }
+
+        for (int op = 0; op < names.length; op++) {
+            System.out.printf("%-14s %9d ops %10.3f us/op%n", names[op], counts[op],
+                    counts[op] == 0 ? 0.0 : nanos[op] / 1000.0 / counts[op]);
+        }
+
+        EdgeWeightedGraph finalGraph = new EdgeWeightedGraph(V);
+        for (Edge e : live) {
+            finalGraph.addEdge(e);
+        }
+        KruskalMST expected = new KruskalMST(finalGraph, new Metrics(), KruskalMST.Strategy.SORT, true);
+        if (Math.abs(expected.weight() - mst.weight()) > 1e-6 * Math.max(1.0, expected.weight())) {
+            throw new IllegalStateException("Dynamic forest cost " + mst.weight() + " differs from Kruskal " + expected.weight());
+        }
+        System.out.println("final forest matches Kruskal");
+    }
+
+    private static EdgeWeightedGraph loadGraph() throws IOException {
+        if (!new File("data/input.json").exists()) {
+            CsrEdgeWeightedGraph csr = RandomGraphs.connected(FALLBACK_VERTICES, 4, new Random(SEED));
+            EdgeWeightedGraph graph = new EdgeWeightedGraph(csr.V());
+            for (int id = 0; id < csr.E(); id++) {
+                graph.addEdge(csr.edge(id));
+            }
+            return graph;
+        }
+
+        EdgeWeightedGraph largest = null;
+        try (GraphJsonReader reader = new GraphJsonReader(new File("data/input.json"))) {
+            InputGraph input;
+            while ((input = reader.next()) != null) {
+                if (largest == null || input.graph().V() > largest.V()) {
+                    largest = input.graph();
+                }
+            }
+        }
+        return largest;
+    }
+}
@@ -0,0 +1,233 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// reads {"graphs": [{"id": .., "nodes": [..], "edges": [{"from": .., "to": .., "weight": ..}, ..]}, ..]}
+// with Jackson's token stream, one graph at a time, so only the graph being handed out is ever in memory.
+// Edges are resolved to vertex indices as they are read when "nodes" comes first; otherwise they are
+// buffered by name until it arrives.
+public class GraphJsonReader implements GraphSource {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private boolean started;
+    private boolean finished;
+
+    public GraphJsonReader(File file) throws IOException {
+        this(FACTORY.createParser(file));
+    }
+
+    public GraphJsonReader(InputStream in) throws IOException {
+        this(FACTORY.createParser(in));
+    }
+
+    private GraphJsonReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    // the next graph of the "graphs" array, or null once it is exhausted
+    @Override
+    public InputGraph next() throws IOException {
+        if (finished) return null;
+        if (!started) {
+            seekGraphs();
+            started = true;
+        }
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            finished = true;
+            return null;
+        }
+        expect(token, JsonToken.START_OBJECT, "a graph object");
+        return readGraph();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    // positions the parser on the start of the top-level "graphs" array, skipping any other fields
+    private void seekGraphs() throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT, "the input object");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("graphs")) {
+                expect(value, JsonToken.START_ARRAY, "the graphs array");
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new JsonParseException(parser, "Input has no \"graphs\" array");
+    }
+
+    private InputGraph readGraph() throws IOException {
+        Integer id = null;
+        VertexSymbolTable symbols = null;
+        EdgeList edges = new EdgeList();
+        PendingEdges pending = new PendingEdges();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    expect(value, JsonToken.VALUE_NUMBER_INT, "an integer id");
+                    id = parser.getIntValue();
+                    break;
+                case "nodes":
+                    symbols = readNodes(value);
+                    if (symbols.size() == 0) {
+                        throw new IllegalArgumentException("Graph has no vertices");
+                    }
+                    if (pending != null) {
+                        for (int i = 0; i < pending.size; i++) {
+                            addEdge(edges, symbols, pending.from.get(i), pending.to.get(i), pending.weight[i]);
+                        }
+                        pending = null;
+                    }
+                    break;
+                case "edges":
+                    readEdges(value, symbols, edges, pending);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (id == null) throw new JsonParseException(parser, "Graph has no id");
+        if (symbols == null) throw new IllegalArgumentException("Graph has no vertices");
+        return new InputGraph(id, symbols, Arrays.copyOf(edges.either, edges.size),
+                Arrays.copyOf(edges.other, edges.size), Arrays.copyOf(edges.weight, edges.size));
+    }
+
+    private VertexSymbolTable readNodes(JsonToken value) throws IOException {
+        expect(value, JsonToken.START_ARRAY, "the nodes array");
+        VertexSymbolTable symbols = new VertexSymbolTable();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(token, JsonToken.VALUE_STRING, "a node label");
+            String name = parser.getText();
+            if (symbols.contains(name)) {
+                throw new IllegalArgumentException("Duplicate vertex: " + name);
+            }
+            symbols.add(name);
+        }
+        return symbols;
+    }
+
+    // adds every edge to edges, or to pending while the nodes are still unknown
+    private void readEdges(JsonToken value, VertexSymbolTable symbols, EdgeList edges,
+                           PendingEdges pending) throws IOException {
+        expect(value, JsonToken.START_ARRAY, "the edges array");
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(token, JsonToken.START_OBJECT, "an edge object");
+            String from = null;
+            String to = null;
+            double weight = Double.NaN;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken fieldValue = parser.nextToken();
+                switch (field) {
+                    case "from":
+                        expect(fieldValue, JsonToken.VALUE_STRING, "a node label");
+                        from = parser.getText();
+                        break;
+                    case "to":
+                        expect(fieldValue, JsonToken.VALUE_STRING, "a node label");
+                        to = parser.getText();
+                        break;
+                    case "weight":
+                        if (!fieldValue.isNumeric()) {
+                            throw new JsonParseException(parser, "Expected a numeric weight but found " + fieldValue);
+                        }
+                        weight = parser.getDoubleValue();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            if (from == null || to == null || Double.isNaN(weight)) {
+                throw new JsonParseException(parser, "Edge needs \"from\", \"to\" and \"weight\"");
+            }
+            if (symbols != null) {
+                addEdge(edges, symbols, from, to, weight);
+            } else {
+                pending.add(from, to, weight);
+            }
+        }
+    }
+
+    private static void addEdge(EdgeList edges, VertexSymbolTable symbols, String from, String to, double weight) {
+        int source = symbols.indexOf(from);
+        int target = symbols.indexOf(to);
+        if (source == -1 || target == -1) {
+            throw new IllegalArgumentException("Unknown vertex: " + (source == -1 ? from : to));
+        }
+
+        if (weight < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Negative edge weight detected: %.2f (from %s to %s)", weight, from, to)
+            );
+        }
+
+        if (source == target) {
+            throw new IllegalArgumentException(
+                    String.format("Self-loop detected: %s -> %s", from, to)
+            );
+        }
+        edges.add(source, target, weight);
+    }
+
+    private void expect(JsonToken actual, JsonToken expected, String what) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + what + " but found " + actual);
+        }
+    }
+
+    // the graph's edges in input order
+    private static class EdgeList {
+        private int[] either = new int[16];
+        private int[] other = new int[16];
+        private double[] weight = new double[16];
+        private int size;
+
+        private void add(int v, int w, double edgeWeight) {
+            if (size == either.length) {
+                either = Arrays.copyOf(either, 2 * size);
+                other = Arrays.copyOf(other, 2 * size);
+                weight = Arrays.copyOf(weight, 2 * size);
+            }
+            either[size] = v;
+            other[size] = w;
+            weight[size++] = edgeWeight;
+        }
+    }
+
+    // edges seen before the graph's "nodes" array
+    private static class PendingEdges {
+        private final List<String> from = new ArrayList<>();
+        private final List<String> to = new ArrayList<>();
+        private double[] weight = new double[16];
+        private int size;
+
+        private void add(String source, String target, double w) {
+            if (size == weight.length) weight = Arrays.copyOf(weight, 2 * size);
+            from.add(source);
+            to.add(target);
+            weight[size++] = w;
+        }
+    }
+}
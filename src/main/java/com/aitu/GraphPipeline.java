@@ -0,0 +1,125 @@
+package com.aitu;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// three-stage batch pipeline: a parser thread reads graphs and submits each to a pool of workers, and the
+// calling thread writes the results. The parser hands the writer one Future per graph through a bounded
+// queue in input order, so graph N+1 is parsed while graph N is solved and graph N-1 is written, the
+// output order matches the input, and at most capacity graphs are parsed but not yet written.
+public class GraphPipeline<R> {
+    public interface Worker<R> {
+        R process(InputGraph graph) throws Exception;
+    }
+
+    public interface Writer<R> {
+        void write(R result) throws IOException;
+    }
+
+    private static final Future<Object> END = CompletableFuture.completedFuture(null);
+
+    private final int threads;
+    private final int capacity;
+
+    public GraphPipeline(int threads) {
+        this(threads, 2 * threads);
+    }
+
+    public GraphPipeline(int threads, int capacity) {
+        if (threads < 1) throw new IllegalArgumentException("Number of threads must be positive");
+        if (capacity < 1) throw new IllegalArgumentException("Queue capacity must be positive");
+        this.threads = threads;
+        this.capacity = capacity;
+    }
+
+    // returns the number of graphs written
+    @SuppressWarnings("unchecked")
+    public int run(GraphSource reader, Worker<R> worker, Writer<R> writer) throws IOException {
+        BlockingQueue<Future<R>> pending = new ArrayBlockingQueue<>(capacity);
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mst-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Thread parser = new Thread(() -> {
+            try {
+                InputGraph graph;
+                while (!Thread.currentThread().isInterrupted() && (graph = reader.next()) != null) {
+                    InputGraph input = graph;
+                    pending.put(pool.submit(() -> worker.process(input)));
+                }
+                pending.put((Future<R>) END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                // Errors too: a parser that dies silently would leave the writer waiting forever
+                CompletableFuture<R> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                try {
+                    pending.put(failed);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "graph-parser");
+        parser.setDaemon(true);
+        parser.start();
+
+        int written = 0;
+        try {
+            Future<R> next;
+            while ((next = pending.take()) != END) {
+                writer.write(next.get());
+                written++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Pipeline interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException(cause);
+        } finally {
+            parser.interrupt();
+            pool.shutdownNow();
+            awaitShutdown(parser, pool);
+        }
+        return written;
+    }
+
+    // the caller closes the reader once run returns, so the parser must be out of reader.next() by then;
+    // a blocking read cannot be interrupted, so this waits for it to finish
+    private static void awaitShutdown(Thread parser, ExecutorService pool) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                parser.join();
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
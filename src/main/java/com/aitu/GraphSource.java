@@ -0,0 +1,25 @@
+package com.aitu;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+// a batch of input graphs read one at a time, from data/input.json or from its binary conversion
+public interface GraphSource extends Closeable {
+    // the next graph, or null once the source is exhausted
+    InputGraph next() throws IOException;
+
+    // opens a file in either format, telling them apart by the binary format's magic number
+    static GraphSource open(File file) throws IOException {
+        int magic;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            magic = in.readInt();
+        } catch (EOFException e) {
+            magic = 0;
+        }
+        return magic == BinaryGraphFormat.MAGIC ? new BinaryGraphReader(file) : new GraphJsonReader(file);
+    }
+}
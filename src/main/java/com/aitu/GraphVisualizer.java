@@ -2,63 +2,63 @@ package com.aitu;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import com.aitu.Dependencies.*;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class GraphVisualizer {
 
     public static void main(String[] args) {
         try {
-            String inputContent = new String(Files.readAllBytes(new File("data/input.json").toPath()));
-            JSONObject input = new JSONObject(inputContent);
-            JSONArray graphs = input.getJSONArray("graphs");
-
             String outputContent = new String(Files.readAllBytes(new File("data/output.json").toPath()));
             JSONObject output = new JSONObject(outputContent);
             JSONArray results = output.getJSONArray("results");
+            Map<Integer, JSONArray> primMstEdges = new HashMap<>();
+            for (int j = 0; j < results.length(); j++) {
+                JSONObject result = results.getJSONObject(j);
+                primMstEdges.putIfAbsent(result.getInt("graph_id"), result.getJSONObject("prim").getJSONArray("mst_edges"));
+            }
 
             File outputDir = new File("graphs/html");
             if (!outputDir.exists()) {
                 outputDir.mkdirs();
             }
 
-            for (int i = 0; i < graphs.length(); i++) {
-                JSONObject graph = graphs.getJSONObject(i);
-                int graphId = graph.getInt("id");
+            List<int[]> cards = new ArrayList<>();
+            try (GraphJsonReader reader = new GraphJsonReader(new File("data/input.json"))) {
+                InputGraph graph;
+                while ((graph = reader.next()) != null) {
+                    int graphId = graph.id();
+                    String html = generateHTML(graph, primMstEdges.get(graphId));
+                    String filename = "graphs/html/graph_" + graphId + ".html";
 
-                JSONArray primMstEdges = null;
-                for (int j = 0; j < results.length(); j++) {
-                    JSONObject result = results.getJSONObject(j);
-                    if (result.getInt("graph_id") == graphId) {
-                        primMstEdges = result.getJSONObject("prim").getJSONArray("mst_edges");
-                        break;
+                    try (FileWriter writer = new FileWriter(filename)) {
+                        writer.write(html);
                     }
-                }
-
-                String html = generateHTML(graph, primMstEdges);
-                String filename = "graphs/html/graph_" + graphId + ".html";
-
-                try (FileWriter writer = new FileWriter(filename)) {
-                    writer.write(html);
+                    cards.add(new int[]{graphId, graph.graph().V(), graph.graph().E()});
                 }
             }
 
-            generateIndex(graphs, "graphs/html/index.html");
-            System.out.println("Generated " + graphs.length() + " visualizations");
+            generateIndex(cards, "graphs/html/index.html");
+            System.out.println("Generated " + cards.size() + " visualizations");
 
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    private static String generateHTML(JSONObject graph, JSONArray mstEdges) {
-        int id = graph.getInt("id");
-        JSONArray nodes = graph.getJSONArray("nodes");
-        JSONArray edges = graph.getJSONArray("edges");
+    private static String generateHTML(InputGraph graph, JSONArray mstEdges) {
+        int id = graph.id();
+        VertexSymbolTable nodes = graph.symbols();
+        EdgeWeightedGraph edges = graph.graph();
 
         Set<String> mstSet = new HashSet<>();
         if (mstEdges != null) {
@@ -112,14 +112,14 @@ public class GraphVisualizer {
                 ".legend-color{display:inline-block;width:15px;height:15px;border-radius:2px;margin-right:8px;vertical-align:middle}\n" +
                 "</style>\n</head>\n<body>\n<div class='container'>\n<h1>Graph " + id + "</h1>\n" +
                 "<div class='layout'>\n<div class='sidebar'>\n<div class='info'>\n" +
-                "Vertices: " + nodes.length() + "<br>Edges: " + edges.length() + "<br>" +
-                "Avg Degree: " + String.format("%.1f", (double)(edges.length() * 2) / nodes.length()) + "\n</div>\n" +
+                "Vertices: " + nodes.size() + "<br>Edges: " + edges.E() + "<br>" +
+                "Avg Degree: " + String.format("%.1f", (double)(edges.E() * 2) / nodes.size()) + "\n</div>\n" +
                 "<div class='controls'>\n<button class='reset' onclick='reset()'>Show All</button>\n" +
                 "<button class='mst' onclick='showMST()'>Highlight MST</button>\n" +
                 "<button onclick='toggleWeights()'>Toggle Weights</button>\n</div>\n" +
                 "<input type='text' class='search-box' id='search' placeholder='Search...' onkeyup='search()'>\n" +
                 "<div class='vertex-list' id='list'></div>\n" +
-                "<div class='stats' id='stats'>\n<div>Showing: <strong id='count'>" + nodes.length() + "</strong> vertices</div>\n" +
+                "<div class='stats' id='stats'>\n<div>Showing: <strong id='count'>" + nodes.size() + "</strong> vertices</div>\n" +
                 "<div>Connected edges: <strong id='neighbors'>0</strong></div>\n</div>\n" +
                 "<div class='legend'>\n" +
                 "<div class='legend-item'><span class='legend-color' style='background:#999;'></span>Inactive</div>\n" +
@@ -129,7 +129,7 @@ public class GraphVisualizer {
                 "<div class='legend-item'><span class='legend-color' style='background:#4CAF50;'></span>MST edge</div>\n" +
                 "</div>\n</div>\n" +
                 "<div><svg id='graph' width='1100' height='700'></svg></div>\n</div>\n" +
-                "<script>\nconst data=" + nodesToJSON(nodes) + ";\nconst links=" + edgesToJSON(edges) + ";\n" +
+                "<script>\nconst data=" + nodesToJSON(nodes) + ";\nconst links=" + edgesToJSON(edges, nodes) + ";\n" +
                 "const mstEdges=" + convertMSTtoJSON(mstSet) + ";\n" +
                 "const adj={};\ndata.forEach(n=>adj[n.id]=[]);\n" +
                 "links.forEach(l=>{adj[l.source].push(l.target);adj[l.target].push(l.source);});\n" +
@@ -189,23 +189,25 @@ public class GraphVisualizer {
                 "</script>\n</div>\n</body>\n</html>";
     }
 
-    private static String nodesToJSON(JSONArray nodes) {
+    private static String nodesToJSON(VertexSymbolTable nodes) {
         StringBuilder s = new StringBuilder("[");
-        for (int i = 0; i < nodes.length(); i++) {
+        for (int i = 0; i < nodes.size(); i++) {
             if (i > 0) s.append(",");
-            s.append("{\"id\":\"").append(nodes.getString(i)).append("\"}");
+            s.append("{\"id\":\"").append(nodes.nameOf(i)).append("\"}");
         }
         return s.append("]").toString();
     }
 
-    private static String edgesToJSON(JSONArray edges) {
+    private static String edgesToJSON(EdgeWeightedGraph edges, VertexSymbolTable nodes) {
         StringBuilder s = new StringBuilder("[");
-        for (int i = 0; i < edges.length(); i++) {
-            JSONObject e = edges.getJSONObject(i);
-            if (i > 0) s.append(",");
-            s.append("{\"source\":\"").append(e.getString("from")).append("\",");
-            s.append("\"target\":\"").append(e.getString("to")).append("\",");
-            s.append("\"weight\":").append(e.getDouble("weight")).append("}");
+        boolean first = true;
+        for (Edge e : edges.edges()) {
+            int v = e.either();
+            if (!first) s.append(",");
+            s.append("{\"source\":\"").append(nodes.nameOf(v)).append("\",");
+            s.append("\"target\":\"").append(nodes.nameOf(e.other(v))).append("\",");
+            s.append("\"weight\":").append(e.weight()).append("}");
+            first = false;
         }
         return s.append("]").toString();
     }
@@ -221,7 +223,8 @@ public class GraphVisualizer {
         return s.append("])").toString();
     }
 
-    private static void generateIndex(JSONArray graphs, String file) throws IOException {
+    // cards[i] = {id, vertices, edges} of the i-th graph
+    private static void generateIndex(List<int[]> cards, String file) throws IOException {
         StringBuilder h = new StringBuilder("<!DOCTYPE html>\n<html>\n<head>\n<meta charset='UTF-8'>\n<title>Graphs</title>\n<style>\n");
         h.append("body{font-family:Arial;margin:20px;background:#f5f5f5}\n");
         h.append("h1{text-align:center;color:#333}\n");
@@ -234,11 +237,10 @@ public class GraphVisualizer {
         h.append(".card a:hover{background:#1976D2}\n");
         h.append("</style>\n</head>\n<body>\n<h1>Graph Visualizations</h1>\n<div class='grid'>\n");
 
-        for (int i = 0; i < graphs.length(); i++) {
-            JSONObject g = graphs.getJSONObject(i);
-            int id = g.getInt("id");
-            int v = g.getJSONArray("nodes").length();
-            int e = g.getJSONArray("edges").length();
+        for (int[] card : cards) {
+            int id = card[0];
+            int v = card[1];
+            int e = card[2];
 
             h.append("<div class='card'>\n<h3>Graph ").append(id).append("</h3>\n");
             h.append("<p>Vertices: ").append(v).append("</p>\n");
@@ -0,0 +1,71 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+// one graph of a GraphSource: its id, the vertex names and the edges in input order as primitive arrays.
+// The EdgeWeightedGraph and the CSR view are built from those arrays on first use.
+public class InputGraph {
+    private final int id;
+    private final VertexSymbolTable symbols;
+    private final int[] either;   // either[i] = one endpoint of the i-th input edge
+    private final int[] other;    // other[i] = the other endpoint of the i-th input edge
+    private final double[] weight; // weight[i] = weight of the i-th input edge
+    private EdgeWeightedGraph graph;
+    private CsrEdgeWeightedGraph csr;
+
+    // takes ownership of the three arrays, which must have exactly one entry per edge
+    InputGraph(int id, VertexSymbolTable symbols, int[] either, int[] other, double[] weight) {
+        this.id = id;
+        this.symbols = symbols;
+        this.either = either;
+        this.other = other;
+        this.weight = weight;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public VertexSymbolTable symbols() {
+        return symbols;
+    }
+
+    public int V() {
+        return symbols.size();
+    }
+
+    public int E() {
+        return either.length;
+    }
+
+    // adds the edges in input order, so adjacency and edges() order match a graph built while parsing
+    public EdgeWeightedGraph graph() {
+        if (graph == null) {
+            graph = new EdgeWeightedGraph(V());
+            for (int i = 0; i < either.length; i++) {
+                graph.addEdge(new Edge(either[i], other[i], weight[i]));
+            }
+        }
+        return graph;
+    }
+
+    // edge ids are input positions; no Edge objects are created
+    public CsrEdgeWeightedGraph csr() {
+        if (csr == null) {
+            csr = new CsrEdgeWeightedGraph(V(), either, other, weight);
+        }
+        return csr;
+    }
+
+    int either(int i) {
+        return either[i];
+    }
+
+    int other(int i) {
+        return other[i];
+    }
+
+    double weight(int i) {
+        return weight[i];
+    }
+}
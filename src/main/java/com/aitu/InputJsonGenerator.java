@@ -8,6 +8,11 @@ import java.io.IOException;
 import java.util.Random;
 
 public class InputJsonGenerator {
+    static final int[] SMALL_NODES = {5, 10, 15, 20, 25};
+    static final int[] MEDIUM_NODES = {30, 60, 90, 120, 150, 180, 210, 240, 270, 300};
+    static final int[] LARGE_NODES = {350, 400, 500, 600, 700, 800, 850, 900, 950, 1000};
+    static final int[] EXTRA_LARGE_NODES = {1300, 1600, 2000};
+
     private final JSONArray graphs;
     private final Random random;
 
@@ -66,23 +71,19 @@ public class InputJsonGenerator {
     public void generateAndSave() throws IOException {
         int idCounter = 1;
 
-        int[] smallNodes = {5, 10, 15, 20, 25};
-        for (int nodes : smallNodes) {
+        for (int nodes : SMALL_NODES) {
             graphs.put(generateRandomGraph(idCounter++, nodes, 3));
         }
 
-        int[] mediumNodes = {30, 60, 90, 120, 150, 180, 210, 240, 270, 300};
-        for (int nodes : mediumNodes) {
+        for (int nodes : MEDIUM_NODES) {
             graphs.put(generateRandomGraph(idCounter++, nodes, 3));
         }
 
-        int[] largeNodes = {350, 400, 500, 600, 700, 800, 850, 900, 950, 1000};
-        for (int nodes : largeNodes) {
+        for (int nodes : LARGE_NODES) {
             graphs.put(generateRandomGraph(idCounter++, nodes, 4));
         }
 
-        int[] extraLargeNodes = {1300, 1600, 2000};
-        for (int nodes : extraLargeNodes) {
+        for (int nodes : EXTRA_LARGE_NODES) {
             graphs.put(generateRandomGraph(idCounter++, nodes, 4));
         }
 
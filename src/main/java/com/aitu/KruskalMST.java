@@ -3,18 +3,63 @@ package com.aitu;
 import com.aitu.Dependencies.*;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 public class KruskalMST {
+    public enum Strategy {
+        SORT,
+        FILTER,
+        HEAP,
+        PARALLEL_SORT,
+        RADIX
+    }
+
+    // Filter-Kruskal stops partitioning and just sorts ranges this small
+    private static final int FILTER_THRESHOLD = 1024;
+    // below this many edges the radix sort's fixed passes cost more than a comparison sort
+    private static final int RADIX_THRESHOLD = 256;
+
     private final int vertices;
     private final int edgesCount;
     private Queue<Edge> mst;
     private double totalWeight;
     private Metrics tracker;
 
+    private UF unionFind;
+    private int edgesAdded;
+    private boolean forest;
+    private SpanningForest spanningForest;
+
+    // merge history, kept only on request; krtNode[r] = reconstruction tree node of the set rooted at r
+    private KruskalReconstructionTree reconstruction;
+    private int[] krtNode;
+
+    // primitive edge list used by every strategy except the Edge[] sort; ids index into these arrays
+    private int[] from;
+    private int[] to;
+    private double[] weights;
+    private Edge[] edgeObjects;
+    private CsrEdgeWeightedGraph csr;
+
     public KruskalMST(EdgeWeightedGraph graph, Metrics tracker) {
+        this(graph, tracker, Strategy.SORT);
+    }
+
+    public KruskalMST(EdgeWeightedGraph graph, Metrics tracker, Strategy strategy) {
+        this(graph, tracker, strategy, false);
+    }
+
+    // with forest set, a disconnected graph yields a minimum spanning forest instead of an exception
+    public KruskalMST(EdgeWeightedGraph graph, Metrics tracker, Strategy strategy, boolean forest) {
+        this(graph, tracker, strategy, forest, false);
+    }
+
+    // with recordMerges set, every union is also kept as a node of a Kruskal reconstruction tree
+    public KruskalMST(EdgeWeightedGraph graph, Metrics tracker, Strategy strategy, boolean forest, boolean recordMerges) {
         this.vertices = graph.V();
         this.edgesCount = graph.E();
         this.tracker = tracker;
+        this.forest = forest;
         this.mst = new Queue<>();
         tracker.reset();
         tracker.startTimer();
@@ -25,37 +70,267 @@ public class KruskalMST {
             edges[index++] = e;
         }
 
-        Arrays.sort(edges);
+        unionFind = new UF(vertices);
+        if (recordMerges) {
+            startRecording();
+        }
 
-        UF unionFind = new UF(vertices);
-        int edgesAdded = 0;
+        if (strategy == Strategy.SORT) {
+            Arrays.sort(edges);
 
-        for (int i = 0; i < edgesCount && edgesAdded < vertices - 1; i++) {
-            Edge e = edges[i];
-            int v = e.either();
-            int w = e.other(v);
+            for (int i = 0; i < edgesCount && edgesAdded < vertices - 1; i++) {
+                Edge e = edges[i];
+                tracker.incrementExtractedEdge();
+                int v = e.either();
+                if (connect(v, e.other(v), e.weight())) {
+                    accept(e);
+                }
+            }
+        } else {
+            edgeObjects = edges;
+            from = new int[edgesCount];
+            to = new int[edgesCount];
+            weights = new double[edgesCount];
+            for (int id = 0; id < edgesCount; id++) {
+                from[id] = edges[id].either();
+                to[id] = edges[id].other(from[id]);
+                weights[id] = edges[id].weight();
+            }
+            run(strategy);
+        }
 
-            tracker.incrementFind();
-            int rootV = unionFind.find(v);
-            tracker.incrementFind();
-            int rootW = unionFind.find(w);
+        checkSpanning();
+        if (reconstruction != null) {
+            reconstruction.finish();
+        }
 
-            tracker.incrementComparison();
+        tracker.stopTimer();
+    }
+
+    public KruskalMST(CsrEdgeWeightedGraph graph, Metrics tracker) {
+        this(graph, tracker, Strategy.SORT);
+    }
+
+    public KruskalMST(CsrEdgeWeightedGraph graph, Metrics tracker, Strategy strategy) {
+        this(graph, tracker, strategy, false);
+    }
 
-            if (rootV != rootW) {
-                unionFind.union(v, w);
-                tracker.incrementUnion();
-                mst.enqueue(e);
-                totalWeight += e.weight();
-                edgesAdded++;
+    public KruskalMST(CsrEdgeWeightedGraph graph, Metrics tracker, Strategy strategy, boolean forest) {
+        this(graph, tracker, strategy, forest, false);
+    }
+
+    public KruskalMST(CsrEdgeWeightedGraph graph, Metrics tracker, Strategy strategy, boolean forest, boolean recordMerges) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        this.forest = forest;
+        this.mst = new Queue<>();
+        tracker.reset();
+        tracker.startTimer();
+
+        csr = graph;
+        from = new int[edgesCount];
+        to = new int[edgesCount];
+        weights = new double[edgesCount];
+        for (int id = 0; id < edgesCount; id++) {
+            from[id] = graph.either(id);
+            to[id] = graph.other(id);
+            weights[id] = graph.edgeWeight(id);
+        }
+
+        unionFind = new UF(vertices);
+        if (recordMerges) {
+            startRecording();
+        }
+        run(strategy);
+
+        checkSpanning();
+        if (reconstruction != null) {
+            reconstruction.finish();
+        }
+
+        tracker.stopTimer();
+    }
+
+    private void run(Strategy strategy) {
+        switch (strategy) {
+            case SORT:
+                int[] sorted = identity();
+                sortByWeight(sorted, 0, edgesCount, new int[edgesCount]);
+                scan(sorted, 0, edgesCount);
+                break;
+            case FILTER:
+                // introsort's bound: past 2 log E partitions on one path the pivots have gone bad
+                int depth = 2 * (32 - Integer.numberOfLeadingZeros(edgesCount));
+                filterKruskal(identity(), 0, edgesCount, new int[Math.min(edgesCount, FILTER_THRESHOLD)], depth);
+                break;
+            case HEAP:
+                heapKruskal(identity());
+                break;
+            case PARALLEL_SORT:
+                scan(WeightRadixSort.parallelSort(weights, ForkJoinPool.commonPool()), 0, edgesCount);
+                break;
+            case RADIX:
+                if (edgesCount < RADIX_THRESHOLD) {
+                    run(Strategy.SORT);
+                } else {
+                    scan(WeightRadixSort.sort(weights), 0, edgesCount);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    private int[] identity() {
+        int[] ids = new int[edgesCount];
+        for (int i = 0; i < edgesCount; i++) {
+            ids[i] = i;
+        }
+        return ids;
+    }
+
+    // ids[lo, hi) hold candidate edges; light edges are solved first, and heavy edges that the
+    // light ones already connected are dropped without ever being sorted. Once depth partitions are
+    // used up the rest is sorted outright, so the recursion stays O(log E) deep whatever the pivots
+    private void filterKruskal(int[] ids, int lo, int hi, int[] aux, int depth) {
+        while (edgesAdded < vertices - 1) {
+            if (hi - lo <= FILTER_THRESHOLD || depth-- == 0) {
+                if (aux.length < hi - lo) {
+                    aux = new int[hi - lo];
+                }
+                sortByWeight(ids, lo, hi, aux);
+                scan(ids, lo, hi);
+                return;
+            }
+
+            int pivot = medianOfThree(ids[lo], ids[(lo + hi) >>> 1], ids[hi - 1]);
+            int split = lo;
+            for (int i = lo; i < hi; i++) {
+                if (!lighter(pivot, ids[i])) {
+                    int swap = ids[split];
+                    ids[split++] = ids[i];
+                    ids[i] = swap;
+                }
+            }
+
+            filterKruskal(ids, lo, split, aux, depth);
+
+            int kept = split;
+            for (int i = split; i < hi && edgesAdded < vertices - 1; i++) {
+                int id = ids[i];
+                tracker.incrementFind();
+                int rootV = unionFind.findUnchecked(from[id]);
+                tracker.incrementFind();
+                int rootW = unionFind.findUnchecked(to[id]);
+                tracker.incrementComparison();
+                if (rootV != rootW) {
+                    ids[kept++] = id;
+                }
+            }
+            lo = split;
+            hi = kept;
+        }
+    }
+
+    // heapify in O(E) and pop only until the tree is complete; IntMinPQ breaks weight ties by id
+    private void heapKruskal(int[] ids) {
+        IntMinPQ pq = new IntMinPQ(ids, weights);
+        while (!pq.isEmpty() && edgesAdded < vertices - 1) {
+            int id = pq.delMin();
+            tracker.incrementPQOperation();
+            tracker.incrementExtractedEdge();
+            if (connect(from[id], to[id], weights[id])) {
+                accept(edgeObjects != null ? edgeObjects[id] : csr.edge(id));
+            }
+        }
+    }
+
+    private void scan(int[] ids, int lo, int hi) {
+        for (int i = lo; i < hi && edgesAdded < vertices - 1; i++) {
+            int id = ids[i];
+            tracker.incrementExtractedEdge();
+            if (connect(from[id], to[id], weights[id])) {
+                accept(edgeObjects != null ? edgeObjects[id] : csr.edge(id));
+            }
+        }
+    }
+
+    private void startRecording() {
+        reconstruction = new KruskalReconstructionTree(vertices);
+        krtNode = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            krtNode[v] = v;
+        }
+    }
+
+    private boolean connect(int v, int w, double weight) {
+        // vertices come from a validated graph, so skip the bounds checks and link the roots found here
+        tracker.incrementFind();
+        int rootV = unionFind.findUnchecked(v);
+        tracker.incrementFind();
+        int rootW = unionFind.findUnchecked(w);
+
+        tracker.incrementComparison();
+
+        if (rootV != rootW) {
+            unionFind.link(rootV, rootW);
+            if (reconstruction != null) {
+                int root = unionFind.findUnchecked(rootV);
+                krtNode[root] = reconstruction.merge(krtNode[rootV], krtNode[rootW], weight);
             }
+            tracker.incrementUnion();
+            return true;
         }
+        return false;
+    }
 
-        if (edgesAdded != vertices - 1) {
+    private void accept(Edge e) {
+        mst.enqueue(e);
+        totalWeight += e.weight();
+        edgesAdded++;
+    }
+
+    private void checkSpanning() {
+        if (!forest && edgesAdded != vertices - 1) {
             throw new IllegalStateException("Graph is not connected, no MST possible");
         }
+    }
 
-        tracker.stopTimer();
+    // edges are ordered by weight, then by id; with ids in edges() order this is exactly
+    // the order the stable Arrays.sort(Edge[]) produces, so all strategies pick the same tree
+    private boolean lighter(int a, int b) {
+        int cmp = Double.compare(weights[a], weights[b]);
+        return cmp < 0 || (cmp == 0 && a < b);
+    }
+
+    private int medianOfThree(int a, int b, int c) {
+        if (lighter(a, b)) {
+            if (lighter(b, c)) return b;
+            return lighter(a, c) ? c : a;
+        }
+        if (lighter(a, c)) return a;
+        return lighter(b, c) ? c : b;
+    }
+
+    // bottom-up merge sort of ids[lo, hi) using aux[0, hi - lo) as scratch space
+    private void sortByWeight(int[] ids, int lo, int hi, int[] aux) {
+        int n = hi - lo;
+        for (int width = 1; width < n; width *= 2) {
+            for (int left = lo; left < hi - width; left += 2 * width) {
+                int mid = left + width;
+                int right = Math.min(left + 2 * width, hi);
+                if (!lighter(ids[mid], ids[mid - 1])) continue;
+                System.arraycopy(ids, left, aux, 0, right - left);
+                int i = 0, j = mid - left, end = right - left;
+                for (int k = left; k < right; k++) {
+                    if (i >= mid - left) ids[k] = aux[j++];
+                    else if (j >= end) ids[k] = aux[i++];
+                    else if (lighter(aux[j], aux[i])) ids[k] = aux[j++];
+                    else ids[k] = aux[i++];
+                }
+            }
+        }
     }
 
     public Iterable<Edge> edges() {
@@ -66,6 +341,33 @@ public class KruskalMST {
         return totalWeight;
     }
 
+    // components are numbered in increasing order of their smallest vertex, as Prim's cursor finds them
+    public SpanningForest forest() {
+        if (spanningForest == null) {
+            int[] label = new int[vertices];
+            int[] component = new int[vertices];
+            int count = 0;
+            for (int v = 0; v < vertices; v++) {
+                int root = unionFind.find(v);
+                if (label[root] == 0) {
+                    label[root] = ++count;
+                }
+                component[v] = label[root] - 1;
+            }
+            spanningForest = new SpanningForest(component, count, mst);
+        }
+        return spanningForest;
+    }
+
+    public int componentCount() {
+        return unionFind.count();
+    }
+
+    // null unless the merges were recorded
+    public KruskalReconstructionTree reconstructionTree() {
+        return reconstruction;
+    }
+
     public Metrics getMetrics() {
         return tracker;
     }
@@ -77,4 +379,4 @@ public class KruskalMST {
     public int getEdgesCount() {
         return edgesCount;
     }
-}
\ No newline at end of file
+}
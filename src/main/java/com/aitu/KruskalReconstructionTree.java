@@ -0,0 +1,163 @@
+package com.aitu;
+
+// the merge history of Kruskal's algorithm: vertices 0 .. V-1 are the leaves, and every union adds an
+// internal node V, V+1, ... whose children are the two merged sets and whose weight is the weight of
+// the edge that merged them. Weights never decrease towards the root, so the lightest possible
+// bottleneck between two vertices is the weight of their lowest common ancestor.
+public class KruskalReconstructionTree {
+    private final int vertices;
+    private int nodes;
+    private final int[] parent;    // parent[x] = node created when x was merged, or -1 for a root
+    private final int[] left;      // left[x] = first child of internal node x, or -1 for a leaf
+    private final int[] right;     // right[x] = second child of internal node x, or -1 for a leaf
+    private final double[] weight; // weight[x] = weight of the merging edge, -Infinity for a leaf
+    private final int[] size;      // size[x] = number of leaves below x
+
+    private int log;
+    private int[] depth;
+    private int[][] up;            // up[k][x] = 2^k-th ancestor of x, or its root
+
+    KruskalReconstructionTree(int vertices) {
+        this.vertices = vertices;
+        int capacity = vertices + Math.max(vertices - 1, 0);
+        parent = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        weight = new double[capacity];
+        size = new int[capacity];
+        for (int v = 0; v < vertices; v++) {
+            parent[v] = -1;
+            left[v] = -1;
+            right[v] = -1;
+            weight[v] = Double.NEGATIVE_INFINITY;
+            size[v] = 1;
+        }
+        nodes = vertices;
+    }
+
+    // a and b are the current roots of two different trees
+    int merge(int a, int b, double mergeWeight) {
+        int node = nodes++;
+        parent[node] = -1;
+        left[node] = a;
+        right[node] = b;
+        weight[node] = mergeWeight;
+        size[node] = size[a] + size[b];
+        parent[a] = node;
+        parent[b] = node;
+        return node;
+    }
+
+    // builds the ancestor tables once all merges are recorded; parents always have larger indices
+    void finish() {
+        log = Math.max(1, 32 - Integer.numberOfLeadingZeros(nodes));
+        depth = new int[nodes];
+        up = new int[log][nodes];
+        for (int x = nodes - 1; x >= 0; x--) {
+            if (parent[x] == -1) {
+                up[0][x] = x;
+            } else {
+                up[0][x] = parent[x];
+                depth[x] = depth[parent[x]] + 1;
+            }
+        }
+        for (int k = 1; k < log; k++) {
+            for (int x = 0; x < nodes; x++) {
+                up[k][x] = up[k - 1][up[k - 1][x]];
+            }
+        }
+    }
+
+    // lowest common ancestor of two nodes, or -1 if they are in different trees
+    public int lca(int a, int b) {
+        validateNode(a);
+        validateNode(b);
+        if (depth[a] < depth[b]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        for (int k = log - 1; k >= 0; k--) {
+            if (depth[a] - (1 << k) >= depth[b]) {
+                a = up[k][a];
+            }
+        }
+        if (a == b) return a;
+        for (int k = log - 1; k >= 0; k--) {
+            if (up[k][a] != up[k][b]) {
+                a = up[k][a];
+                b = up[k][b];
+            }
+        }
+        return up[0][a] == up[0][b] ? up[0][a] : -1;
+    }
+
+    // smallest possible maximum edge weight over all paths between u and v; -Infinity if u == v,
+    // +Infinity if no path exists
+    public double minimax(int u, int v) {
+        validateVertex(u);
+        validateVertex(v);
+        int ancestor = lca(u, v);
+        return ancestor == -1 ? Double.POSITIVE_INFINITY : weight[ancestor];
+    }
+
+    // can u reach v using only edges of weight at most threshold?
+    public boolean connectedUnder(int u, int v, double threshold) {
+        return minimax(u, v) <= threshold;
+    }
+
+    // number of vertices v can reach using only edges of weight at most threshold, v included
+    public int componentSize(int v, double threshold) {
+        validateVertex(v);
+        int x = v;
+        for (int k = log - 1; k >= 0; k--) {
+            if (weight[up[k][x]] <= threshold) {
+                x = up[k][x];
+            }
+        }
+        return size[x];
+    }
+
+    public int vertices() {
+        return vertices;
+    }
+
+    public int nodeCount() {
+        return nodes;
+    }
+
+    public int parent(int x) {
+        validateNode(x);
+        return parent[x];
+    }
+
+    public int left(int x) {
+        validateNode(x);
+        return left[x];
+    }
+
+    public int right(int x) {
+        validateNode(x);
+        return right[x];
+    }
+
+    public double weight(int x) {
+        validateNode(x);
+        return weight[x];
+    }
+
+    public int size(int x) {
+        validateNode(x);
+        return size[x];
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (vertices - 1));
+    }
+
+    private void validateNode(int x) {
+        if (x < 0 || x >= nodes)
+            throw new IllegalArgumentException("node " + x + " is not between 0 and " + (nodes - 1));
+    }
+}
@@ -0,0 +1,63 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class KruskalSortBenchmark {
+    private static final long SEED = 42;
+    private static final int MIN_EXPONENT = 3;
+    private static final int MAX_EXPONENT = 7;
+
+    // 10^8 edges need roughly 8 GB of heap for the Edge[] side, so it is opt-in: pass 8 as the argument
+    public static void main(String[] args) {
+        int maxExponent = args.length > 0 ? Integer.parseInt(args[0]) : MAX_EXPONENT;
+
+        for (int i = 0; i < 5; i++) {
+            measure(100_000, 1);
+        }
+
+        System.out.printf("%12s %16s %12s %16s %10s%n", "edges", "Arrays.sort ms", "radix ms", "parallel radix ms", "speedup");
+        for (int exponent = MIN_EXPONENT; exponent <= maxExponent; exponent++) {
+            int edges = (int) Math.pow(10, exponent);
+            double[] times = measure(edges, exponent >= 7 ? 1 : 3);
+            System.out.printf("%12d %16.3f %12.3f %16.3f %9.1fx%n", edges, times[0], times[1], times[2], times[0] / times[1]);
+        }
+    }
+
+    // returns the best of the repetitions for Arrays.sort(Edge[]), the sequential and the parallel radix sort
+    private static double[] measure(int edges, int repetitions) {
+        Random random = new Random(SEED);
+        Edge[] objects = new Edge[edges];
+        double[] weights = new double[edges];
+        for (int i = 0; i < edges; i++) {
+            weights[i] = random.nextDouble() * 10;
+            objects[i] = new Edge(random.nextInt(edges), random.nextInt(edges), weights[i]);
+        }
+
+        double[] best = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+        for (int r = 0; r < repetitions; r++) {
+            Edge[] copy = objects.clone();
+            long start = System.nanoTime();
+            Arrays.sort(copy);
+            best[0] = Math.min(best[0], (System.nanoTime() - start) / 1_000_000.0);
+
+            start = System.nanoTime();
+            int[] order = WeightRadixSort.sort(weights);
+            best[1] = Math.min(best[1], (System.nanoTime() - start) / 1_000_000.0);
+
+            start = System.nanoTime();
+            int[] parallelOrder = WeightRadixSort.parallelSort(weights, ForkJoinPool.commonPool());
+            best[2] = Math.min(best[2], (System.nanoTime() - start) / 1_000_000.0);
+
+            for (int i = 0; i < edges; i++) {
+                if (copy[i].weight() != weights[order[i]] || order[i] != parallelOrder[i]) {
+                    throw new IllegalStateException("Sorted orders differ at position " + i);
+                }
+            }
+        }
+        return best;
+    }
+}
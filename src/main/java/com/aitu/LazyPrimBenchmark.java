@@ -0,0 +1,50 @@
+package com.aitu;
+
+import com.aitu.Dependencies.CsrEdgeWeightedGraph;
+
+import java.util.Random;
+
+public class LazyPrimBenchmark {
+    private static final long SEED = 42;
+    private static final int SYNTHETIC_EDGES = 10_000_000;
+    private static final int SYNTHETIC_EDGES_PER_VERTEX = 4;
+
+    public static void main(String[] args) {
+        int syntheticEdges = args.length > 0 ? Integer.parseInt(args[0]) : SYNTHETIC_EDGES;
+
+        CsrEdgeWeightedGraph warmupGraph = RandomGraphs.connected(20_000, 4, new Random(SEED));
+        for (int i = 0; i < 10; i++) {
+            new PrimMST(warmupGraph, new Metrics());
+            new LazyPrimMST(warmupGraph, new Metrics());
+        }
+
+        System.out.printf("%10s %11s %12s %12s %14s %14s%n",
+                "vertices", "edges", "eager ms", "lazy ms", "eager max PQ", "lazy max PQ");
+        run(InputJsonGenerator.SMALL_NODES, 3);
+        run(InputJsonGenerator.MEDIUM_NODES, 3);
+        run(InputJsonGenerator.LARGE_NODES, 4);
+        run(InputJsonGenerator.EXTRA_LARGE_NODES, 4);
+
+        int vertices = syntheticEdges / SYNTHETIC_EDGES_PER_VERTEX;
+        compare(RandomGraphs.connected(vertices, SYNTHETIC_EDGES_PER_VERTEX, new Random(SEED)));
+    }
+
+    private static void run(int[] nodeCounts, int edgesPerVertex) {
+        for (int nodes : nodeCounts) {
+            compare(RandomGraphs.connected(nodes, edgesPerVertex, new Random(SEED + nodes)));
+        }
+    }
+
+    private static void compare(CsrEdgeWeightedGraph graph) {
+        Metrics eager = new Metrics();
+        PrimMST eagerMST = new PrimMST(graph, eager);
+        Metrics lazy = new Metrics();
+        LazyPrimMST lazyMST = new LazyPrimMST(graph, lazy);
+
+        if (Math.abs(eagerMST.weight() - lazyMST.weight()) > 1e-6) {
+            throw new IllegalStateException("Eager and lazy Prim disagree on graph with " + graph.V() + " vertices");
+        }
+        System.out.printf("%10d %11d %12.3f %12.3f %14d %14d%n", graph.V(), graph.E(),
+                eager.getExecutionTimeMs(), lazy.getExecutionTimeMs(), eager.getMaxPQSize(), lazy.getMaxPQSize());
+    }
+}
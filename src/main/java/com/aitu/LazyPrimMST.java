@@ -0,0 +1,119 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+public class LazyPrimMST {
+    private final int vertices;
+    private final int edgesCount;
+    private final CsrEdgeWeightedGraph graph;
+    private Edge[] edgeObjects;
+    private boolean[] marked;
+    private int[] mstEdgeIds;
+    private int mstSize;
+    private double totalWeight;
+    private IntMinPQ pq;
+    private Metrics tracker;
+
+    // the CSR conversion is timed along with the search, as PrimMST times its whole run; edge ids follow
+    // graph.edges(), so the MST hands back the graph's own Edge objects
+    public LazyPrimMST(EdgeWeightedGraph graph, Metrics tracker) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        tracker.reset();
+        tracker.startTimer();
+
+        this.graph = new CsrEdgeWeightedGraph(graph);
+        edgeObjects = new Edge[edgesCount];
+        int id = 0;
+        for (Edge e : graph.edges()) {
+            edgeObjects[id++] = e;
+        }
+        run();
+    }
+
+    public LazyPrimMST(CsrEdgeWeightedGraph graph, Metrics tracker) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.graph = graph;
+        this.tracker = tracker;
+        tracker.reset();
+        tracker.startTimer();
+        run();
+    }
+
+    private void run() {
+        marked = new boolean[vertices];
+        mstEdgeIds = new int[Math.max(vertices - 1, 0)];
+        pq = new IntMinPQ(vertices);
+
+        int startVertex = 0;
+        for (int v = 0; v < vertices; v++) {
+            if (graph.degree(v) > 0) {
+                startVertex = v;
+                break;
+            }
+        }
+        if (vertices > 0) {
+            visit(startVertex);
+        }
+
+        while (!pq.isEmpty() && mstSize < vertices - 1) {
+            int id = pq.delMin();
+            tracker.incrementPQOperation();
+            int v = graph.either(id);
+            int w = graph.other(id);
+
+            tracker.incrementComparison();
+            if (marked[v] && marked[w]) {
+                continue;
+            }
+            mstEdgeIds[mstSize++] = id;
+            totalWeight += graph.edgeWeight(id);
+            visit(marked[v] ? w : v);
+        }
+
+        if (mstSize != vertices - 1 && vertices > 0) {
+            throw new IllegalStateException("Graph is not connected, no MST possible");
+        }
+
+        tracker.stopTimer();
+    }
+
+    private void visit(int v) {
+        marked[v] = true;
+        for (int slot = graph.begin(v), end = graph.end(v); slot < end; slot++) {
+            tracker.incrementComparison();
+            if (!marked[graph.target(slot)]) {
+                pq.insert(graph.edgeId(slot), graph.weight(slot));
+                tracker.incrementPQOperation();
+            }
+        }
+        tracker.recordPQSize(pq.size());
+    }
+
+    public Iterable<Edge> edges() {
+        Queue<Edge> mstEdges = new Queue<>();
+        for (int i = 0; i < mstSize; i++) {
+            int id = mstEdgeIds[i];
+            mstEdges.enqueue(edgeObjects != null ? edgeObjects[id] : graph.edge(id));
+        }
+        return mstEdges;
+    }
+
+    public double weight() {
+        return totalWeight;
+    }
+
+    public Metrics getMetrics() {
+        return tracker;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgesCount() {
+        return edgesCount;
+    }
+}
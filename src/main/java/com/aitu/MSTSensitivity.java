@@ -0,0 +1,154 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// sensitivity of a minimum spanning forest: how much each tree edge can get heavier before another
+// edge can replace it, and how much each non-tree edge must get lighter before it can enter. At the
+// limit itself there is a tie, so the edge is still in some minimum spanning forest.
+// Edges are identified by reference and must be the Edge objects of the analysed graph.
+public class MSTSensitivity {
+    private final int vertices;
+    private final Edge[] edges;
+    private final Map<Edge, Integer> ids;
+    private final boolean[] inTree;
+    private final double[] slack;     // max increase of a tree edge, required decrease of a non-tree edge
+    private final int[] partner;      // replacement of a tree edge, heaviest cycle edge of a non-tree edge; -1 if none
+
+    private final PathMaxIndex index;
+
+    public MSTSensitivity(EdgeWeightedGraph graph, Iterable<Edge> mstEdges) {
+        this.vertices = graph.V();
+        this.edges = new Edge[graph.E()];
+        this.ids = new IdentityHashMap<>(graph.E());
+        int id = 0;
+        for (Edge e : graph.edges()) {
+            edges[id] = e;
+            ids.put(e, id++);
+        }
+
+        inTree = new boolean[edges.length];
+        for (Edge e : mstEdges) {
+            int t = idOf(e);
+            if (inTree[t]) throw new IllegalArgumentException("edge " + e + " appears twice in the tree");
+            inTree[t] = true;
+        }
+        index = new PathMaxIndex(vertices, mstEdges);
+
+        slack = new double[edges.length];
+        partner = new int[edges.length];
+        Arrays.fill(slack, Double.POSITIVE_INFINITY);
+        Arrays.fill(partner, -1);
+        analyseNonTreeEdges();
+        analyseTreeEdges();
+    }
+
+    // a non-tree edge can enter once it is lighter than the heaviest tree edge on the cycle it closes
+    private void analyseNonTreeEdges() {
+        for (int t = 0; t < edges.length; t++) {
+            if (inTree[t]) continue;
+            int v = edges[t].either();
+            int w = edges[t].other(v);
+            if (v == w) continue;
+            Edge heaviest = index.maxEdge(v, w);
+            if (heaviest == null) throw new IllegalArgumentException("tree edges do not span the component of edge " + edges[t]);
+            partner[t] = idOf(heaviest);
+            slack[t] = edges[t].weight() - heaviest.weight();
+        }
+    }
+
+    // a tree edge can grow up to the lightest non-tree edge whose cycle covers it; visiting non-tree
+    // edges by increasing weight, each tree edge is assigned once and then skipped with union-find
+    private void analyseTreeEdges() {
+        int count = 0;
+        int[] candidates = new int[edges.length];
+        for (int t = 0; t < edges.length; t++) {
+            if (!inTree[t] && edges[t].either() != edges[t].other(edges[t].either())) {
+                candidates[count++] = t;
+            }
+        }
+        double[] weights = new double[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = edges[candidates[i]].weight();
+        }
+        int[] order = WeightRadixSort.sort(weights);
+
+        // skip[v] leads to the deepest ancestor of v, v included, whose parent edge is still unassigned
+        int[] skip = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            skip[v] = v;
+        }
+        for (int i = 0; i < count; i++) {
+            int t = candidates[order[i]];
+            int a = unassigned(skip, edges[t].either());
+            int b = unassigned(skip, edges[t].other(edges[t].either()));
+            while (a != b) {
+                if (index.depth(a) < index.depth(b)) {
+                    int swap = a;
+                    a = b;
+                    b = swap;
+                }
+                int covered = idOf(index.parentEdge(a));
+                partner[covered] = t;
+                slack[covered] = edges[t].weight() - edges[covered].weight();
+                skip[a] = index.parent(a);
+                a = unassigned(skip, a);
+            }
+        }
+    }
+
+    private static int unassigned(int[] skip, int v) {
+        while (skip[v] != v) {
+            skip[v] = skip[skip[v]];
+            v = skip[v];
+        }
+        return v;
+    }
+
+    private int idOf(Edge e) {
+        Integer id = ids.get(e);
+        if (id == null) throw new IllegalArgumentException("edge " + e + " is not in the graph");
+        return id;
+    }
+
+    public boolean isTreeEdge(Edge e) {
+        return inTree[idOf(e)];
+    }
+
+    // +Infinity for a bridge, which no other edge can replace
+    public double maxIncrease(Edge treeEdge) {
+        int id = idOf(treeEdge);
+        if (!inTree[id]) throw new IllegalArgumentException("edge " + treeEdge + " is not a tree edge");
+        return slack[id];
+    }
+
+    public Edge replacement(Edge treeEdge) {
+        int id = idOf(treeEdge);
+        if (!inTree[id]) throw new IllegalArgumentException("edge " + treeEdge + " is not a tree edge");
+        return partner[id] == -1 ? null : edges[partner[id]];
+    }
+
+    // +Infinity for a self-loop, which can never enter
+    public double requiredDecrease(Edge nonTreeEdge) {
+        int id = idOf(nonTreeEdge);
+        if (inTree[id]) throw new IllegalArgumentException("edge " + nonTreeEdge + " is a tree edge");
+        return slack[id];
+    }
+
+    public Edge heaviestOnCycle(Edge nonTreeEdge) {
+        int id = idOf(nonTreeEdge);
+        if (inTree[id]) throw new IllegalArgumentException("edge " + nonTreeEdge + " is a tree edge");
+        return partner[id] == -1 ? null : edges[partner[id]];
+    }
+
+    public Iterable<Edge> edges() {
+        Queue<Edge> all = new Queue<>();
+        for (Edge e : edges) {
+            all.enqueue(e);
+        }
+        return all;
+    }
+}
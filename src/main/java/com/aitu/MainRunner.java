@@ -4,132 +4,127 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import com.aitu.Dependencies.*;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 public class MainRunner {
+    // one graph's entry in output.json and its rows in output.csv
+    private static class GraphResult {
+        private final JSONObject json;
+        private final String[][] csvRows;
+
+        private GraphResult(JSONObject json, String[][] csvRows) {
+            this.json = json;
+            this.csvRows = csvRows;
+        }
+    }
+
+    // usage: MainRunner [--input file] [--pipeline [threads]] [--compact]; the input is JSON or BinaryGraphFormat
     public static void main(String[] args) {
+        boolean pipeline = false;
+        boolean compact = false;
+        String inputPath = "data/input.json";
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--pipeline")) {
+                pipeline = true;
+                if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                    threads = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--input") && i + 1 < args.length) {
+                inputPath = args[++i];
+            } else if (args[i].equals("--compact")) {
+                compact = true;
+            } else {
+                System.err.println("❌ Unknown argument: " + args[i]);
+                System.err.println("Usage: MainRunner [--input file] [--pipeline [threads]] [--compact]");
+                return;
+            }
+        }
+
         try {
             warmupJVM();
 
-            JSONObject input = readInputJson();
-            JSONArray graphs = input.getJSONArray("graphs");
-            JSONArray results = new JSONArray();
-            String csvFilePath = "data/output.csv";
+            File dir = new File("data");
+            if (!dir.exists()) dir.mkdirs();
 
+            String csvFilePath = "data/output.csv";
             Metrics.writeCsv(csvFilePath, new String[][]{}, false);
 
-            for (int i = 0; i < graphs.length(); i++) {
-                JSONObject graphJson = graphs.getJSONObject(i);
-                int id = graphJson.getInt("id");
-                JSONArray nodes = graphJson.getJSONArray("nodes");
-                Map<String, Integer> nodeMap = new HashMap<>();
-                for (int j = 0; j < nodes.length(); j++) {
-                    nodeMap.put(nodes.getString(j), j);
-                }
-                EdgeWeightedGraph graph = parseGraph(graphJson, nodeMap);
-                int vertexCount = graph.V();
-                int edgeCount = graph.E();
-
-                System.gc();
-                try {
-                    Thread.sleep(10);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                Metrics primMetrics = new Metrics();
-                PrimMST primMST = new PrimMST(graph, primMetrics);
-                double primWeight = primMST.weight();
-                JSONArray primMstEdges = getMstEdges(primMST.edges(), nodeMap);
-                JSONObject primResult = createAlgorithmResult("prim", primWeight, primMstEdges, primMetrics);
-
-                System.gc();
-                try {
-                    Thread.sleep(10);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                Metrics kruskalMetrics = new Metrics();
-                KruskalMST kruskalMST = new KruskalMST(graph, kruskalMetrics);
-                double kruskalWeight = kruskalMST.weight();
-                JSONArray kruskalMstEdges = getMstEdges(kruskalMST.edges(), nodeMap);
-                JSONObject kruskalResult = createAlgorithmResult("kruskal", kruskalWeight, kruskalMstEdges, kruskalMetrics);
-
-                JSONObject result = new JSONObject();
-                result.put("graph_id", id);
-                result.put("input_stats", new JSONObject()
-                        .put("vertices", vertexCount)
-                        .put("edges", edgeCount));
-                result.put("prim", primResult);
-                result.put("kruskal", kruskalResult);
-                results.put(result);
-
-                String[][] csvData = {
-                        {String.valueOf(id), String.valueOf(vertexCount), String.valueOf(edgeCount), "Prim", String.format("%.2f", primWeight),
-                                String.valueOf(primMetrics.getTotalOperations()), String.format("%.2f", primMetrics.getExecutionTimeMs())},
-                        {String.valueOf(id), String.valueOf(vertexCount), String.valueOf(edgeCount), "Kruskal", String.format("%.2f", kruskalWeight),
-                                String.valueOf(kruskalMetrics.getTotalOperations()), String.format("%.2f", kruskalMetrics.getExecutionTimeMs())}
+            try (GraphSource reader = GraphSource.open(new File(inputPath));
+                 OutputJsonWriter output = new OutputJsonWriter(new File("data/output.json"), !compact)) {
+                GraphPipeline.Writer<GraphResult> writer = result -> {
+                    output.write(result.json);
+                    Metrics.writeCsv(csvFilePath, result.csvRows, true);
                 };
-                Metrics.writeCsv(csvFilePath, csvData, true);
-
-                System.gc();
-                try {
-                    Thread.sleep(10);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                if (pipeline) {
+                    // several graphs are solved at once, so the per-graph timings include contention
+                    new GraphPipeline<GraphResult>(threads).run(reader, input -> processGraph(input, false), writer);
+                } else {
+                    InputGraph input;
+                    while ((input = reader.next()) != null) {
+                        writer.write(processGraph(input, true));
+                        settle();
+                    }
                 }
+                output.finish();
             }
 
-            writeOutputJson(results);
-
             System.out.println("✅ Processing completed. Check data/output.json and data/output.csv");
         } catch (IOException e) {
             System.err.println("❌ Error: " + e.getMessage());
         }
     }
 
-    private static JSONObject readInputJson() throws IOException {
-        File file = new File("data/input.json");
-        StringBuilder content = new StringBuilder();
-        try (java.util.Scanner scanner = new java.util.Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                content.append(scanner.nextLine());
-            }
-        }
-        return new JSONObject(content.toString());
-    }
+    // runs both algorithms on one graph; settle collects garbage before each run so timings stay comparable,
+    // which only makes sense when graphs are processed one at a time
+    private static GraphResult processGraph(InputGraph input, boolean settle) {
+        int id = input.id();
+        VertexSymbolTable symbols = input.symbols();
+        EdgeWeightedGraph graph = input.graph();
+        int vertexCount = graph.V();
+        int edgeCount = graph.E();
+
+        if (settle) settle();
+        Metrics primMetrics = new Metrics();
+        PrimMST primMST = new PrimMST(graph, primMetrics, DoubleIndexMinPQ::new, true);
+        double primWeight = primMST.weight();
+        JSONArray primMstEdges = getMstEdges(primMST.edges(), symbols);
+        JSONObject primSensitivity = getSensitivity(new MSTSensitivity(graph, primMST.edges()), symbols);
+        JSONObject primResult = createAlgorithmResult("prim", primWeight, primMstEdges, primMetrics, primSensitivity);
+
+        if (settle) settle();
+        Metrics kruskalMetrics = new Metrics();
+        KruskalMST kruskalMST = new KruskalMST(graph, kruskalMetrics, KruskalMST.Strategy.SORT, true);
+        double kruskalWeight = kruskalMST.weight();
+        JSONArray kruskalMstEdges = getMstEdges(kruskalMST.edges(), symbols);
+        JSONObject kruskalSensitivity = getSensitivity(new MSTSensitivity(graph, kruskalMST.edges()), symbols);
+        JSONObject kruskalResult = createAlgorithmResult("kruskal", kruskalWeight, kruskalMstEdges, kruskalMetrics, kruskalSensitivity);
 
-    private static EdgeWeightedGraph parseGraph(JSONObject graphJson, Map<String, Integer> nodeMap) {
-        int vertexCount = nodeMap.size();
-        if (vertexCount == 0) {
-            throw new IllegalArgumentException("Graph has no vertices");
-        }
-        EdgeWeightedGraph graph = new EdgeWeightedGraph(vertexCount);
-        JSONArray edges = graphJson.getJSONArray("edges");
-        for (int i = 0; i < edges.length(); i++) {
-            JSONObject edge = edges.getJSONObject(i);
-            int source = nodeMap.get(edge.getString("from"));
-            int target = nodeMap.get(edge.getString("to"));
-            double weight = edge.getDouble("weight");
-
-            if (weight < 0) {
-                throw new IllegalArgumentException(
-                        String.format("Negative edge weight detected: %.2f (from %s to %s)",
-                                weight, edge.getString("from"), edge.getString("to"))
-                );
-            }
+        JSONObject result = new JSONObject();
+        result.put("graph_id", id);
+        result.put("input_stats", new JSONObject()
+                .put("vertices", vertexCount)
+                .put("edges", edgeCount)
+                .put("components", primMST.componentCount()));
+        result.put("prim", primResult);
+        result.put("kruskal", kruskalResult);
+
+        String[][] csvData = {
+                {String.valueOf(id), String.valueOf(vertexCount), String.valueOf(edgeCount), "Prim", String.format("%.2f", primWeight),
+                        String.valueOf(primMetrics.getTotalOperations()), String.format("%.2f", primMetrics.getExecutionTimeMs())},
+                {String.valueOf(id), String.valueOf(vertexCount), String.valueOf(edgeCount), "Kruskal", String.format("%.2f", kruskalWeight),
+                        String.valueOf(kruskalMetrics.getTotalOperations()), String.format("%.2f", kruskalMetrics.getExecutionTimeMs())}
+        };
+        return new GraphResult(result, csvData);
+    }
 
-            if (source == target) {
-                throw new IllegalArgumentException(
-                        String.format("Self-loop detected: %s -> %s",
-                                edge.getString("from"), edge.getString("to"))
-                );
-            }
-            graph.addEdge(new Edge(source, target, weight));
+    private static void settle() {
+        System.gc();
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        return graph;
     }
 
     private static void warmupJVM() {
@@ -144,33 +139,56 @@ public class MainRunner {
             new KruskalMST(warmupGraph, dummyMetrics);
         }
     }
-    private static JSONArray getMstEdges(Iterable<Edge> edges, Map<String, Integer> nodeMap) {
+    private static JSONArray getMstEdges(Iterable<Edge> edges, VertexSymbolTable symbols) {
         JSONArray mstEdges = new JSONArray();
         for (Edge edge : edges) {
-            JSONObject edgeJson = new JSONObject();
-            int v = edge.either();
-            int w = edge.other(v);
-            edgeJson.put("from", getKeyByValue(nodeMap, v));
-            edgeJson.put("to", getKeyByValue(nodeMap, w));
-            edgeJson.put("weight", edge.weight());
-            mstEdges.put(edgeJson);
+            mstEdges.put(getEdgeJson(edge, symbols));
         }
         return mstEdges;
     }
 
-    private static <K, V> K getKeyByValue(Map<K, V> map, V value) {
-        for (Map.Entry<K, V> entry : map.entrySet()) {
-            if (entry.getValue().equals(value)) {
-                return entry.getKey();
+    // how far every tree edge can rise and every non-tree edge must fall before the tree changes; null means never
+    private static JSONObject getSensitivity(MSTSensitivity sensitivity, VertexSymbolTable symbols) {
+        JSONArray treeEdges = new JSONArray();
+        JSONArray nonTreeEdges = new JSONArray();
+        for (Edge edge : sensitivity.edges()) {
+            JSONObject edgeJson = getEdgeJson(edge, symbols);
+            if (sensitivity.isTreeEdge(edge)) {
+                Edge replacement = sensitivity.replacement(edge);
+                edgeJson.put("max_increase", finiteOrNull(sensitivity.maxIncrease(edge)));
+                edgeJson.put("replacement", replacement == null ? JSONObject.NULL : getEdgeJson(replacement, symbols));
+                treeEdges.put(edgeJson);
+            } else {
+                edgeJson.put("required_decrease", finiteOrNull(sensitivity.requiredDecrease(edge)));
+                nonTreeEdges.put(edgeJson);
             }
         }
-        return null;
+        return new JSONObject()
+                .put("tree_edges", treeEdges)
+                .put("non_tree_edges", nonTreeEdges);
     }
 
-    private static JSONObject createAlgorithmResult(String algorithm, double weight, JSONArray mstEdges, Metrics metrics) {
+    private static JSONObject getEdgeJson(Edge edge, VertexSymbolTable symbols) {
+        int v = edge.either();
+        int w = edge.other(v);
+        return new JSONObject()
+                .put("from", symbols.nameOf(v))
+                .put("to", symbols.nameOf(w))
+                .put("weight", edge.weight());
+    }
+
+    private static Object finiteOrNull(double value) {
+        return Double.isInfinite(value) ? JSONObject.NULL : value;
+    }
+
+    private static JSONObject createAlgorithmResult(String algorithm, double weight, JSONArray mstEdges, Metrics metrics,
+                                                    JSONObject sensitivity) {
         JSONObject result = new JSONObject();
         result.put("mst_edges", mstEdges);
         result.put("total_cost", weight);
+        if (sensitivity != null) {
+            result.put("sensitivity", sensitivity);
+        }
         if (metrics != null) {
             result.put("operations_count", metrics.getTotalOperations());
             result.put("execution_time_ms", metrics.getExecutionTimeMs());
@@ -180,14 +198,4 @@ public class MainRunner {
         }
         return result;
     }
-
-    private static void writeOutputJson(JSONArray results) throws IOException {
-        JSONObject output = new JSONObject();
-        output.put("results", results);
-        File dir = new File("data");
-        if (!dir.exists()) dir.mkdirs();
-        try (FileWriter file = new FileWriter("data/output.json")) {
-            file.write(output.toString(4));
-        }
-    }
-}
\ No newline at end of file
+}
@@ -9,6 +9,8 @@ public class Metrics {
     private long unions = 0;
     private long pqOperations = 0;
     private long findOperations = 0;
+    private int maxPQSize = 0;
+    private long extractedEdges = 0;
     private long startTime;
     private double executionTimeMs = 0.0;
 
@@ -25,6 +27,10 @@ public class Metrics {
         comparisons++;
     }
 
+    public void addComparisons(long count) {
+        comparisons += count;
+    }
+
     public void incrementUnion() {
         unions++;
     }
@@ -37,6 +43,30 @@ public class Metrics {
         findOperations++;
     }
 
+    public void addFinds(long count) {
+        findOperations += count;
+    }
+
+    public void incrementExtractedEdge() {
+        extractedEdges++;
+    }
+
+    public void recordPQSize(int size) {
+        if (size > maxPQSize) {
+            maxPQSize = size;
+        }
+    }
+
+    // folds the counters of a sub-computation into this one; timings are left alone
+    public void add(Metrics other) {
+        comparisons += other.comparisons;
+        unions += other.unions;
+        pqOperations += other.pqOperations;
+        findOperations += other.findOperations;
+        extractedEdges += other.extractedEdges;
+        recordPQSize(other.maxPQSize);
+    }
+
     public long getComparisons() {
         return comparisons;
     }
@@ -53,6 +83,14 @@ public class Metrics {
         return findOperations;
     }
 
+    public int getMaxPQSize() {
+        return maxPQSize;
+    }
+
+    public long getExtractedEdges() {
+        return extractedEdges;
+    }
+
     public long getTotalOperations() {
         return comparisons + unions + pqOperations + findOperations;
     }
@@ -67,6 +105,8 @@ public class Metrics {
         pqOperations = 0;
         executionTimeMs = 0.0;
         findOperations = 0;
+        maxPQSize = 0;
+        extractedEdges = 0;
     }
 
     public static void writeCsv(String filePath, String[][] data, boolean append) throws IOException {
@@ -0,0 +1,146 @@
+package com.aitu;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+// writes {"results": [..]} to data/output.json one graph at a time through Jackson's JsonGenerator, so only
+// the result being written is held in memory and finished graphs reach the file while later ones still run.
+// Pretty output puts every field on its own line, indented by 4 spaces; compact output has no whitespace.
+// The document is only terminated by finish(), so a failed run never leaves a complete-looking file behind.
+public class OutputJsonWriter implements Closeable {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final File file;   // the file being written, or null for a stream
+    private int written;
+    private boolean finished;
+
+    public OutputJsonWriter(File file, boolean pretty) throws IOException {
+        this(FACTORY.createGenerator(file, JsonEncoding.UTF8), file, pretty);
+    }
+
+    public OutputJsonWriter(OutputStream out, boolean pretty) throws IOException {
+        this(FACTORY.createGenerator(out, JsonEncoding.UTF8), null, pretty);
+    }
+
+    private OutputJsonWriter(JsonGenerator generator, File file, boolean pretty) throws IOException {
+        this.generator = generator;
+        this.file = file;
+        // by default Jackson closes open arrays and objects on close(), which would complete a failed run
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        if (pretty) {
+            generator.setPrettyPrinter(new FourSpacePrinter());
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("results");
+        generator.writeStartArray();
+    }
+
+    // appends one element of the results array and flushes it to the file
+    public void write(JSONObject result) throws IOException {
+        writeValue(result);
+        generator.flush();
+        written++;
+    }
+
+    public int getWritten() {
+        return written;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    // closes the results array once every result is written; the output is valid JSON only after this
+    public void finish() throws IOException {
+        if (finished) return;
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+        finished = true;
+    }
+
+    // without finish() the run failed: a stream is left unterminated and a file is deleted
+    @Override
+    public void close() throws IOException {
+        generator.close();
+        if (!finished && file != null) {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            generator.writeStartObject();
+            for (String key : object.keySet()) {
+                generator.writeFieldName(key);
+                writeValue(object.get(key));
+            }
+            generator.writeEndObject();
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            generator.writeStartArray();
+            for (int i = 0; i < array.length(); i++) {
+                writeValue(array.get(i));
+            }
+            generator.writeEndArray();
+        } else if (value == null || JSONObject.NULL.equals(value)) {
+            generator.writeNull();
+        } else if (value instanceof Integer || value instanceof Long) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    // Jackson's default printer indents by 2, writes "key" : value and pads empty containers as [ ]
+    private static class FourSpacePrinter extends DefaultPrettyPrinter {
+        private static final long serialVersionUID = 1L;
+
+        private FourSpacePrinter() {
+            DefaultIndenter indenter = new DefaultIndenter("    ", "\n");
+            indentObjectsWith(indenter);
+            indentArraysWith(indenter);
+        }
+
+        @Override
+        public DefaultPrettyPrinter createInstance() {
+            return new FourSpacePrinter();
+        }
+
+        @Override
+        public void writeObjectFieldValueSeparator(JsonGenerator g) throws IOException {
+            g.writeRaw(": ");
+        }
+
+        @Override
+        public void writeEndObject(JsonGenerator g, int nrOfEntries) throws IOException {
+            if (!_objectIndenter.isInline()) --_nesting;
+            if (nrOfEntries > 0) _objectIndenter.writeIndentation(g, _nesting);
+            g.writeRaw('}');
+        }
+
+        @Override
+        public void writeEndArray(JsonGenerator g, int nrOfValues) throws IOException {
+            if (!_arrayIndenter.isInline()) --_nesting;
+            if (nrOfValues > 0) _arrayIndenter.writeIndentation(g, _nesting);
+            g.writeRaw(']');
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelKruskalBenchmark {
+    private static final long SEED = 42;
+    private static final int EDGES = 10_000_000;
+    private static final int EDGES_PER_VERTEX = 4;
+    private static final int REPETITIONS = 3;
+
+    // the speedup is relative to sequential KruskalMST with the radix sort, the fastest single-threaded strategy
+    public static void main(String[] args) {
+        int edges = args.length > 0 ? Integer.parseInt(args[0]) : EDGES;
+        CsrEdgeWeightedGraph graph = RandomGraphs.connected(edges / EDGES_PER_VERTEX, EDGES_PER_VERTEX, new Random(SEED));
+
+        CsrEdgeWeightedGraph warmupGraph = RandomGraphs.connected(50_000, EDGES_PER_VERTEX, new Random(SEED));
+        for (int i = 0; i < 10; i++) {
+            new KruskalMST(warmupGraph, new Metrics(), KruskalMST.Strategy.RADIX);
+            new ParallelKruskalMST(warmupGraph, new ParallelMetrics());
+        }
+
+        KruskalMST baseline = null;
+        double baselineMs = Double.POSITIVE_INFINITY;
+        for (int r = 0; r < REPETITIONS; r++) {
+            Metrics metrics = new Metrics();
+            baseline = new KruskalMST(graph, metrics, KruskalMST.Strategy.RADIX);
+            baselineMs = Math.min(baselineMs, metrics.getExecutionTimeMs());
+        }
+        System.out.printf("%d vertices, %d edges, sequential Kruskal %.3f ms%n", graph.V(), graph.E(), baselineMs);
+
+        System.out.printf("%8s %12s %10s %10s %10s %12s %9s%n",
+                "threads", "total ms", "sort ms", "filter ms", "commit ms", "candidates", "speedup");
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads = threads < cores && threads * 2 > cores ? cores : threads * 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelMetrics best = null;
+                for (int r = 0; r < REPETITIONS; r++) {
+                    ParallelMetrics metrics = new ParallelMetrics();
+                    ParallelKruskalMST mst = new ParallelKruskalMST(graph, metrics, pool);
+                    checkSameEdges(baseline, mst);
+                    if (best == null || metrics.getExecutionTimeMs() < best.getExecutionTimeMs()) {
+                        best = metrics;
+                    }
+                }
+                best.setBaselineTimeMs(baselineMs);
+                System.out.printf("%8d %12.3f %10.3f %10.3f %10.3f %12d %8.2fx%n", best.getThreads(),
+                        best.getExecutionTimeMs(), best.getSortTimeMs(), best.getFilterTimeMs(),
+                        best.getCommitTimeMs(), best.getCandidateEdges(), best.getSpeedup());
+            } finally {
+                pool.shutdown();
+            }
+            if (threads == cores) break;
+        }
+    }
+
+    private static void checkSameEdges(KruskalMST expected, ParallelKruskalMST actual) {
+        Iterator<Edge> it = actual.edges().iterator();
+        for (Edge e : expected.edges()) {
+            Edge other = it.next();
+            if (e.either() != other.either() || e.other(e.either()) != other.other(other.either())
+                    || e.weight() != other.weight()) {
+                throw new IllegalStateException("Parallel and sequential Kruskal chose different edges");
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelKruskalMST {
+    // edges filtered by one task; also the granularity of the compaction
+    private static final int CHUNK_SIZE = 8192;
+
+    private final int vertices;
+    private final int edgesCount;
+    private Queue<Edge> mst;
+    private double totalWeight;
+    private ParallelMetrics tracker;
+
+    private ConcurrentUF unionFind;
+    private int edgesAdded;
+
+    private int[] from;
+    private int[] to;
+    private double[] weights;
+    private Edge[] edgeObjects;
+    private CsrEdgeWeightedGraph csr;
+
+    public ParallelKruskalMST(EdgeWeightedGraph graph, ParallelMetrics tracker) {
+        this(graph, tracker, ForkJoinPool.commonPool());
+    }
+
+    public ParallelKruskalMST(EdgeWeightedGraph graph, ParallelMetrics tracker, ForkJoinPool pool) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        this.mst = new Queue<>();
+        tracker.reset();
+        tracker.setThreads(pool.getParallelism());
+        tracker.startTimer();
+
+        edgeObjects = new Edge[edgesCount];
+        from = new int[edgesCount];
+        to = new int[edgesCount];
+        weights = new double[edgesCount];
+        int id = 0;
+        for (Edge e : graph.edges()) {
+            edgeObjects[id] = e;
+            from[id] = e.either();
+            to[id] = e.other(from[id]);
+            weights[id] = e.weight();
+            id++;
+        }
+        run(pool);
+
+        tracker.stopTimer();
+    }
+
+    public ParallelKruskalMST(CsrEdgeWeightedGraph graph, ParallelMetrics tracker) {
+        this(graph, tracker, ForkJoinPool.commonPool());
+    }
+
+    public ParallelKruskalMST(CsrEdgeWeightedGraph graph, ParallelMetrics tracker, ForkJoinPool pool) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        this.mst = new Queue<>();
+        tracker.reset();
+        tracker.setThreads(pool.getParallelism());
+        tracker.startTimer();
+
+        csr = graph;
+        from = new int[edgesCount];
+        to = new int[edgesCount];
+        weights = new double[edgesCount];
+        for (int id = 0; id < edgesCount; id++) {
+            from[id] = graph.either(id);
+            to[id] = graph.other(id);
+            weights[id] = graph.edgeWeight(id);
+        }
+        run(pool);
+
+        tracker.stopTimer();
+    }
+
+    // the sorted edges are consumed in blocks that double in size: every block is first filtered in
+    // parallel against the union-find as the previous blocks left it, then the survivors are committed
+    // in sorted order on this thread. A filtered edge closes a cycle with lighter edges, so sequential
+    // Kruskal would have rejected it too, and the tree is the same edge for edge.
+    private void run(ForkJoinPool pool) {
+        long start = System.nanoTime();
+        int[] sorted = WeightRadixSort.parallelSort(weights, pool);
+        tracker.addSortTime(elapsedMs(start));
+
+        unionFind = new ConcurrentUF(vertices);
+        int[] kept = new int[(edgesCount + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        int blockSize = Math.max(vertices, CHUNK_SIZE);
+        for (int lo = 0; lo < edgesCount && edgesAdded < vertices - 1; lo += blockSize, blockSize *= 2) {
+            int hi = (int) Math.min((long) lo + blockSize, edgesCount);
+            int chunks = (hi - lo + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            start = System.nanoTime();
+            pool.invoke(new FilterTask(sorted, lo, hi, 0, chunks, kept));
+            tracker.addFilterTime(elapsedMs(start));
+            tracker.addFinds(2L * (hi - lo));
+            tracker.addComparisons(hi - lo);
+
+            start = System.nanoTime();
+            long candidates = 0;
+            for (int c = 0; c < chunks; c++) {
+                int chunkLo = lo + c * CHUNK_SIZE;
+                candidates += kept[c];
+                commit(sorted, chunkLo, chunkLo + kept[c]);
+            }
+            tracker.addCommitTime(elapsedMs(start));
+            tracker.addCandidateEdges(candidates);
+            tracker.addFilteredEdges(hi - lo - candidates);
+        }
+
+        if (edgesAdded != vertices - 1) {
+            throw new IllegalStateException("Graph is not connected, no MST possible");
+        }
+    }
+
+    private void commit(int[] ids, int lo, int hi) {
+        for (int i = lo; i < hi && edgesAdded < vertices - 1; i++) {
+            int id = ids[i];
+            tracker.incrementExtractedEdge();
+            tracker.incrementFind();
+            tracker.incrementFind();
+            tracker.incrementComparison();
+            if (unionFind.unionIfDisjoint(from[id], to[id])) {
+                tracker.incrementUnion();
+                Edge e = edgeObjects != null ? edgeObjects[id] : csr.edge(id);
+                mst.enqueue(e);
+                totalWeight += e.weight();
+                edgesAdded++;
+            }
+        }
+    }
+
+    private static double elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    // compacts every chunk of ids[lo, hi) in place to the edges whose endpoints are still in
+    // different components and stores how many are left in kept[chunk]; nothing is merged
+    // while the filter runs, so every task sees the same snapshot of the union-find
+    private class FilterTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] ids;
+        private final int lo;
+        private final int hi;
+        private final int firstChunk;
+        private final int lastChunk;
+        private final int[] kept;
+
+        FilterTask(int[] ids, int lo, int hi, int firstChunk, int lastChunk, int[] kept) {
+            this.ids = ids;
+            this.lo = lo;
+            this.hi = hi;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.kept = kept;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                int chunkLo = lo + firstChunk * CHUNK_SIZE;
+                int chunkHi = Math.min(chunkLo + CHUNK_SIZE, hi);
+                int next = chunkLo;
+                for (int i = chunkLo; i < chunkHi; i++) {
+                    int id = ids[i];
+                    if (unionFind.find(from[id]) != unionFind.find(to[id])) {
+                        ids[next++] = id;
+                    }
+                }
+                kept[firstChunk] = next - chunkLo;
+                return;
+            }
+            int mid = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new FilterTask(ids, lo, hi, firstChunk, mid, kept),
+                    new FilterTask(ids, lo, hi, mid, lastChunk, kept));
+        }
+    }
+
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    public double weight() {
+        return totalWeight;
+    }
+
+    public ParallelMetrics getMetrics() {
+        return tracker;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgesCount() {
+        return edgesCount;
+    }
+}
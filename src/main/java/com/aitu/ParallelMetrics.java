@@ -0,0 +1,85 @@
+package com.aitu;
+
+public class ParallelMetrics extends Metrics {
+    private int threads = 1;
+    private double sortTimeMs = 0.0;
+    private double filterTimeMs = 0.0;
+    private double commitTimeMs = 0.0;
+    private long filteredEdges = 0;
+    private long candidateEdges = 0;
+    private double baselineTimeMs = 0.0;
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public void addSortTime(double ms) {
+        sortTimeMs += ms;
+    }
+
+    public void addFilterTime(double ms) {
+        filterTimeMs += ms;
+    }
+
+    public void addCommitTime(double ms) {
+        commitTimeMs += ms;
+    }
+
+    public void addFilteredEdges(long count) {
+        filteredEdges += count;
+    }
+
+    public void addCandidateEdges(long count) {
+        candidateEdges += count;
+    }
+
+    // execution time of the sequential run the speedup is measured against
+    public void setBaselineTimeMs(double ms) {
+        baselineTimeMs = ms;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public double getSortTimeMs() {
+        return sortTimeMs;
+    }
+
+    public double getFilterTimeMs() {
+        return filterTimeMs;
+    }
+
+    public double getCommitTimeMs() {
+        return commitTimeMs;
+    }
+
+    public long getFilteredEdges() {
+        return filteredEdges;
+    }
+
+    public long getCandidateEdges() {
+        return candidateEdges;
+    }
+
+    public double getBaselineTimeMs() {
+        return baselineTimeMs;
+    }
+
+    public double getSpeedup() {
+        double time = getExecutionTimeMs();
+        return baselineTimeMs > 0 && time > 0 ? baselineTimeMs / time : 0.0;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        threads = 1;
+        sortTimeMs = 0.0;
+        filterTimeMs = 0.0;
+        commitTimeMs = 0.0;
+        filteredEdges = 0;
+        candidateEdges = 0;
+        baselineTimeMs = 0.0;
+    }
+}
@@ -0,0 +1,215 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.Arrays;
+
+// answers "heaviest edge on the tree path between u and v" over a spanning tree or forest, such as
+// PrimMST.edges() or KruskalMST.edges(), in O(log V) per query after O(V log V) preprocessing.
+// Every tree is rooted at its smallest vertex and every vertex stores its 2^k-th ancestor together
+// with the heaviest edge on the way there (binary lifting).
+public class PathMaxIndex {
+    private final int vertices;
+    private final Edge[] treeEdges;
+    private final int log;
+    private final int[] depth;
+    private final int[] root;
+    private final int[][] up;           // up[k][v] = 2^k-th ancestor of v, or the root
+    private final int[][] maxEdge;      // maxEdge[k][v] = index of the heaviest edge on the way up there, or -1
+    private final double[][] maxWeight; // maxWeight[k][v] = weight of that edge, or -Infinity
+
+    public PathMaxIndex(int vertices, Iterable<Edge> edges) {
+        if (vertices < 0) throw new IllegalArgumentException("Number of vertices must be non-negative");
+        this.vertices = vertices;
+        int count = 0;
+        for (Edge e : edges) {
+            validateVertex(e.either());
+            validateVertex(e.other(e.either()));
+            count++;
+        }
+        treeEdges = new Edge[count];
+        int[] offsets = new int[vertices + 1];
+        count = 0;
+        for (Edge e : edges) {
+            treeEdges[count++] = e;
+            int v = e.either();
+            offsets[v + 1]++;
+            offsets[e.other(v) + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacency = new int[2 * count];
+        int[] next = Arrays.copyOf(offsets, vertices);
+        for (int t = 0; t < count; t++) {
+            int v = treeEdges[t].either();
+            adjacency[next[v]++] = t;
+            adjacency[next[treeEdges[t].other(v)]++] = t;
+        }
+
+        log = Math.max(1, 32 - Integer.numberOfLeadingZeros(vertices));
+        depth = new int[vertices];
+        root = new int[vertices];
+        up = new int[log][vertices];
+        maxEdge = new int[log][vertices];
+        maxWeight = new double[log][vertices];
+        int components = build(offsets, adjacency);
+        if (count != vertices - components) {
+            throw new IllegalArgumentException("edges do not form a forest: " + count + " edges, "
+                    + vertices + " vertices, " + components + " components");
+        }
+    }
+
+    // returns the number of trees
+    private int build(int[] offsets, int[] adjacency) {
+        boolean[] visited = new boolean[vertices];
+        int[] queue = new int[vertices];
+        int components = 0;
+        for (int s = 0; s < vertices; s++) {
+            if (visited[s]) continue;
+            components++;
+            int head = 0, tail = 0;
+            queue[tail++] = s;
+            visited[s] = true;
+            up[0][s] = s;
+            maxEdge[0][s] = -1;
+            maxWeight[0][s] = Double.NEGATIVE_INFINITY;
+            while (head < tail) {
+                int v = queue[head++];
+                root[v] = s;
+                for (int slot = offsets[v]; slot < offsets[v + 1]; slot++) {
+                    int t = adjacency[slot];
+                    int w = treeEdges[t].other(v);
+                    if (visited[w]) continue;
+                    visited[w] = true;
+                    depth[w] = depth[v] + 1;
+                    up[0][w] = v;
+                    maxEdge[0][w] = t;
+                    maxWeight[0][w] = treeEdges[t].weight();
+                    queue[tail++] = w;
+                }
+            }
+        }
+        for (int k = 1; k < log; k++) {
+            for (int v = 0; v < vertices; v++) {
+                int mid = up[k - 1][v];
+                up[k][v] = up[k - 1][mid];
+                if (maxWeight[k - 1][mid] > maxWeight[k - 1][v]) {
+                    maxEdge[k][v] = maxEdge[k - 1][mid];
+                    maxWeight[k][v] = maxWeight[k - 1][mid];
+                } else {
+                    maxEdge[k][v] = maxEdge[k - 1][v];
+                    maxWeight[k][v] = maxWeight[k - 1][v];
+                }
+            }
+        }
+        return components;
+    }
+
+    public boolean connected(int u, int v) {
+        validateVertex(u);
+        validateVertex(v);
+        return root[u] == root[v];
+    }
+
+    // weight of the heaviest edge on the path; -Infinity if u == v, +Infinity if u and v are in different trees
+    public double query(int u, int v) {
+        validateVertex(u);
+        validateVertex(v);
+        if (root[u] != root[v]) return Double.POSITIVE_INFINITY;
+        int t = pathMax(u, v);
+        return t == -1 ? Double.NEGATIVE_INFINITY : treeEdges[t].weight();
+    }
+
+    // the heaviest edge on the path; null if u == v or u and v are in different trees
+    public Edge maxEdge(int u, int v) {
+        validateVertex(u);
+        validateVertex(v);
+        if (root[u] != root[v]) return null;
+        int t = pathMax(u, v);
+        return t == -1 ? null : treeEdges[t];
+    }
+
+    // answers query(from[i], to[i]) for every i; queries only read the index, so they run in parallel
+    public double[] query(int[] from, int[] to) {
+        if (from.length != to.length) throw new IllegalArgumentException("from and to must have the same length");
+        for (int i = 0; i < from.length; i++) {
+            validateVertex(from[i]);
+            validateVertex(to[i]);
+        }
+        double[] result = new double[from.length];
+        Arrays.parallelSetAll(result, i -> {
+            int u = from[i];
+            int v = to[i];
+            if (root[u] != root[v]) return Double.POSITIVE_INFINITY;
+            int t = pathMax(u, v);
+            return t == -1 ? Double.NEGATIVE_INFINITY : treeEdges[t].weight();
+        });
+        return result;
+    }
+
+    private int pathMax(int u, int v) {
+        int best = -1;
+        double bestWeight = Double.NEGATIVE_INFINITY;
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        for (int k = log - 1; k >= 0; k--) {
+            if (depth[u] - (1 << k) >= depth[v]) {
+                if (maxWeight[k][u] > bestWeight) {
+                    best = maxEdge[k][u];
+                    bestWeight = maxWeight[k][u];
+                }
+                u = up[k][u];
+            }
+        }
+        if (u == v) return best;
+        for (int k = log - 1; k >= 0; k--) {
+            if (up[k][u] != up[k][v]) {
+                if (maxWeight[k][u] > bestWeight) {
+                    best = maxEdge[k][u];
+                    bestWeight = maxWeight[k][u];
+                }
+                if (maxWeight[k][v] > bestWeight) {
+                    best = maxEdge[k][v];
+                    bestWeight = maxWeight[k][v];
+                }
+                u = up[k][u];
+                v = up[k][v];
+            }
+        }
+        if (maxWeight[0][u] > bestWeight) {
+            best = maxEdge[0][u];
+            bestWeight = maxWeight[0][u];
+        }
+        if (maxWeight[0][v] > bestWeight) {
+            best = maxEdge[0][v];
+        }
+        return best;
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= vertices)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (vertices - 1));
+    }
+
+    // tree shape, for analyses that walk the rooted forest themselves
+    int depth(int v) {
+        return depth[v];
+    }
+
+    int parent(int v) {
+        return up[0][v];
+    }
+
+    // the edge from v to its parent, or null for a root
+    Edge parentEdge(int v) {
+        return maxEdge[0][v] == -1 ? null : treeEdges[maxEdge[0][v]];
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+}
@@ -2,59 +2,125 @@ package com.aitu;
 
 import com.aitu.Dependencies.*;
 
+import java.util.function.IntFunction;
+
 public class PrimMST {
     private final int vertices;
     private final int edgesCount;
     private Edge[] edgeTo;
     private double[] distTo;
     private boolean[] marked;
+    private int[] component;
+    private int componentCount;
+    private boolean forest;
+    private SpanningForest spanningForest;
     private double totalWeight;
-    private IndexMinPQ<Double> pq;
+    private IndexedMinPQ pq;
     private Metrics tracker;
 
     public PrimMST(EdgeWeightedGraph graph, Metrics tracker) {
+        this(graph, tracker, DoubleIndexMinPQ::new);
+    }
+
+    public PrimMST(EdgeWeightedGraph graph, Metrics tracker, IntFunction<IndexedMinPQ> pqFactory) {
+        this(graph, tracker, pqFactory, false);
+    }
+
+    // with forest set, a disconnected graph yields a minimum spanning forest instead of an exception
+    public PrimMST(EdgeWeightedGraph graph, Metrics tracker, IntFunction<IndexedMinPQ> pqFactory, boolean forest) {
         this.vertices = graph.V();
         this.edgesCount = graph.E();
         this.tracker = tracker;
+        this.forest = forest;
         tracker.reset();
         tracker.startTimer();
 
         edgeTo = new Edge[vertices];
         distTo = new double[vertices];
         marked = new boolean[vertices];
+        component = new int[vertices];
         for (int v = 0; v < vertices; v++) {
             distTo[v] = Double.POSITIVE_INFINITY;
         }
-        pq = new IndexMinPQ<>(vertices);
+        pq = pqFactory.apply(vertices);
+
+        // every unmarked vertex the cursor reaches starts a new component
+        for (int s = 0; s < vertices; s++) {
+            if (marked[s]) continue;
+            startComponent(s);
+
+            while (!pq.isEmpty()) {
+                int v = pq.delMin();
+                tracker.incrementPQOperation();
+                marked[v] = true;
+                component[v] = componentCount - 1;
+                updateMinEdge(graph, v);
+            }
+        }
 
+        tracker.stopTimer();
+    }
+
+    public PrimMST(CsrEdgeWeightedGraph graph, Metrics tracker) {
+        this(graph, tracker, DoubleIndexMinPQ::new);
+    }
+
+    public PrimMST(CsrEdgeWeightedGraph graph, Metrics tracker, IntFunction<IndexedMinPQ> pqFactory) {
+        this(graph, tracker, pqFactory, false);
+    }
 
-        int startVertex = 0;
+    public PrimMST(CsrEdgeWeightedGraph graph, Metrics tracker, IntFunction<IndexedMinPQ> pqFactory, boolean forest) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        this.forest = forest;
+        tracker.reset();
+        tracker.startTimer();
+
+        int[] edgeIdTo = new int[vertices];
+        distTo = new double[vertices];
+        marked = new boolean[vertices];
+        component = new int[vertices];
         for (int v = 0; v < vertices; v++) {
-            if (graph.degree(v) > 0) {
-                startVertex = v;
-                break;
-            }
+            distTo[v] = Double.POSITIVE_INFINITY;
+            edgeIdTo[v] = -1;
         }
-        distTo[startVertex] = 0.0;
-        pq.insert(startVertex, distTo[startVertex]);
-        tracker.incrementPQOperation();
-
-        while (!pq.isEmpty()) {
-            int v = pq.delMin();
-            tracker.incrementPQOperation();
-            marked[v] = true;
-            updateMinEdge(graph, v);
+        pq = pqFactory.apply(vertices);
+
+        for (int s = 0; s < vertices; s++) {
+            if (marked[s]) continue;
+            startComponent(s);
+
+            while (!pq.isEmpty()) {
+                int v = pq.delMin();
+                tracker.incrementPQOperation();
+                marked[v] = true;
+                component[v] = componentCount - 1;
+                updateMinEdge(graph, v, edgeIdTo);
+            }
         }
 
+        edgeTo = new Edge[vertices];
         for (int v = 0; v < vertices; v++) {
-            if (!marked[v]) {
-                throw new IllegalStateException("Graph is not connected, no MST possible");
+            if (edgeIdTo[v] != -1) {
+                edgeTo[v] = graph.edge(edgeIdTo[v]);
             }
         }
 
         tracker.stopTimer();
     }
 
+    private void startComponent(int s) {
+        if (componentCount > 0 && !forest) {
+            throw new IllegalStateException("Graph is not connected, no MST possible");
+        }
+        componentCount++;
+        distTo[s] = 0.0;
+        pq.insert(s, distTo[s]);
+        tracker.incrementPQOperation();
+        tracker.recordPQSize(pq.size());
+    }
+
     private void updateMinEdge(EdgeWeightedGraph graph, int v) {
         for (Edge e : graph.adj(v)) {
             int w = e.other(v);
@@ -69,6 +135,28 @@ public class PrimMST {
                 } else {
                     pq.insert(w, distTo[w]);
                     tracker.incrementPQOperation();
+                    tracker.recordPQSize(pq.size());
+                }
+            }
+        }
+    }
+
+    private void updateMinEdge(CsrEdgeWeightedGraph graph, int v, int[] edgeIdTo) {
+        for (int slot = graph.begin(v), end = graph.end(v); slot < end; slot++) {
+            int w = graph.target(slot);
+            double weight = graph.weight(slot);
+
+            tracker.incrementComparison();
+            if (!marked[w] && weight < distTo[w]) {
+                distTo[w] = weight;
+                edgeIdTo[w] = graph.edgeId(slot);
+                if (pq.contains(w)) {
+                    pq.decreaseKey(w, distTo[w]);
+                    tracker.incrementPQOperation();
+                } else {
+                    pq.insert(w, distTo[w]);
+                    tracker.incrementPQOperation();
+                    tracker.recordPQSize(pq.size());
                 }
             }
         }
@@ -92,6 +180,17 @@ public class PrimMST {
         return totalWeight;
     }
 
+    public SpanningForest forest() {
+        if (spanningForest == null) {
+            spanningForest = new SpanningForest(component, componentCount, edges());
+        }
+        return spanningForest;
+    }
+
+    public int componentCount() {
+        return componentCount;
+    }
+
     public Metrics getMetrics() {
         return tracker;
     }
@@ -103,4 +202,4 @@ public class PrimMST {
     public int getEdgesCount() {
         return edgesCount;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+public class PriorityQueueBenchmark {
+    private static final long SEED = 42;
+    private static final int[] DENSE_NODES = {250, 500, 1000, 2000, 3000};
+
+    public static void main(String[] args) {
+        int[] scales = args.length == 0 ? new int[]{1, 1000} : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        Map<String, IntFunction<IndexedMinPQ>> heaps = new LinkedHashMap<>();
+        heaps.put("binary", DoubleIndexMinPQ::new);
+        heaps.put("2-ary", n -> new DaryIndexMinPQ(n, 2));
+        heaps.put("4-ary", n -> new DaryIndexMinPQ(n, 4));
+        heaps.put("8-ary", n -> new DaryIndexMinPQ(n, 8));
+        heaps.put("pairing", PairingIndexMinPQ::new);
+        heaps.put("fibonacci", FibonacciIndexMinPQ::new);
+
+        warmup(heaps);
+
+        for (int scale : scales) {
+            System.out.println("Scale x" + scale);
+            printHeader(heaps);
+            int repetitions = scale == 1 ? 9 : 3;
+            run(InputJsonGenerator.SMALL_NODES, 3, scale, repetitions, heaps);
+            run(InputJsonGenerator.MEDIUM_NODES, 3, scale, repetitions, heaps);
+            run(InputJsonGenerator.LARGE_NODES, 4, scale, repetitions, heaps);
+            run(InputJsonGenerator.EXTRA_LARGE_NODES, 4, scale, repetitions, heaps);
+            System.out.println();
+        }
+
+        System.out.println("Dense (complete graphs)");
+        printHeader(heaps);
+        for (int nodes : DENSE_NODES) {
+            CsrEdgeWeightedGraph graph = RandomGraphs.complete(nodes, new Random(SEED + nodes));
+            printRow(graph, 3, heaps);
+        }
+    }
+
+    private static void warmup(Map<String, IntFunction<IndexedMinPQ>> heaps) {
+        CsrEdgeWeightedGraph graph = RandomGraphs.connected(20_000, 4, new Random(SEED));
+        for (int i = 0; i < 10; i++) {
+            for (IntFunction<IndexedMinPQ> heap : heaps.values()) {
+                new PrimMST(graph, new Metrics(), heap);
+            }
+        }
+    }
+
+    private static void run(int[] nodeCounts, int edgesPerVertex, int scale, int repetitions,
+                            Map<String, IntFunction<IndexedMinPQ>> heaps) {
+        for (int nodes : nodeCounts) {
+            CsrEdgeWeightedGraph graph = RandomGraphs.connected(nodes * scale, edgesPerVertex, new Random(SEED + nodes));
+            printRow(graph, repetitions, heaps);
+        }
+    }
+
+    private static void printRow(CsrEdgeWeightedGraph graph, int repetitions, Map<String, IntFunction<IndexedMinPQ>> heaps) {
+        StringBuilder row = new StringBuilder(String.format("%10d %11d", graph.V(), graph.E()));
+        String winner = null;
+        double best = Double.POSITIVE_INFINITY;
+        for (Map.Entry<String, IntFunction<IndexedMinPQ>> heap : heaps.entrySet()) {
+            double time = medianTimeMs(graph, heap.getValue(), repetitions);
+            row.append(String.format(" %12.3f", time));
+            if (time < best) {
+                best = time;
+                winner = heap.getKey();
+            }
+        }
+        double kruskal = kruskalMedianTimeMs(graph, repetitions);
+        row.append(String.format(" %12.3f", kruskal));
+        System.out.println(row.append("  ").append(kruskal < best ? "kruskal" : winner));
+    }
+
+    private static double medianTimeMs(CsrEdgeWeightedGraph graph, IntFunction<IndexedMinPQ> heap, int repetitions) {
+        double[] times = new double[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            Metrics metrics = new Metrics();
+            new PrimMST(graph, metrics, heap);
+            times[i] = metrics.getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[repetitions / 2];
+    }
+
+    private static double kruskalMedianTimeMs(CsrEdgeWeightedGraph graph, int repetitions) {
+        double[] times = new double[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            Metrics metrics = new Metrics();
+            new KruskalMST(graph, metrics);
+            times[i] = metrics.getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[repetitions / 2];
+    }
+
+    private static void printHeader(Map<String, IntFunction<IndexedMinPQ>> heaps) {
+        StringBuilder header = new StringBuilder(String.format("%10s %11s", "vertices", "edges"));
+        for (String name : heaps.keySet()) {
+            header.append(String.format(" %12s", name + " ms"));
+        }
+        header.append(String.format(" %12s", "kruskal ms"));
+        System.out.println(header.append("  fastest"));
+    }
+}
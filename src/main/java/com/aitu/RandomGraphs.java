@@ -0,0 +1,73 @@
+package com.aitu;
+
+import com.aitu.Dependencies.CsrEdgeWeightedGraph;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class RandomGraphs {
+    // above this many edges duplicates are no longer filtered out; they are rare and harmless for an MST
+    private static final int MAX_DEDUPLICATED_EDGES = 1_000_000;
+
+    private RandomGraphs() {
+    }
+
+    // same shape as InputJsonGenerator: a random spanning tree plus random extra edges,
+    // built straight into CSR form so that graphs with millions of edges stay cheap
+    public static CsrEdgeWeightedGraph connected(int vertices, int edgesPerVertex, Random random) {
+        long maxPossibleEdges = (long) vertices * (vertices - 1) / 2;
+        int totalEdges = (int) Math.min((long) vertices * edgesPerVertex, maxPossibleEdges);
+        totalEdges = Math.max(totalEdges, vertices - 1);
+
+        int[] either = new int[totalEdges];
+        int[] other = new int[totalEdges];
+        double[] weight = new double[totalEdges];
+        boolean deduplicate = totalEdges <= MAX_DEDUPLICATED_EDGES;
+        Set<Long> seen = deduplicate ? new HashSet<>() : null;
+
+        int count = 0;
+        for (int i = 1; i < vertices; i++) {
+            either[count] = random.nextInt(i);
+            other[count] = i;
+            weight[count] = random.nextDouble() * 10;
+            if (deduplicate) seen.add(key(either[count], other[count], vertices));
+            count++;
+        }
+
+        while (count < totalEdges) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            if (u == v) continue;
+            if (deduplicate && !seen.add(key(u, v, vertices))) continue;
+            either[count] = u;
+            other[count] = v;
+            weight[count] = 1 + random.nextDouble() * 9;
+            count++;
+        }
+
+        return new CsrEdgeWeightedGraph(vertices, either, other, weight);
+    }
+
+    private static long key(int u, int v, int vertices) {
+        return (long) Math.min(u, v) * vertices + Math.max(u, v);
+    }
+
+    // E = V(V-1)/2 with uniform random weights, the dense case where Prim's decrease-key dominates
+    public static CsrEdgeWeightedGraph complete(int vertices, Random random) {
+        int totalEdges = (int) ((long) vertices * (vertices - 1) / 2);
+        int[] either = new int[totalEdges];
+        int[] other = new int[totalEdges];
+        double[] weight = new double[totalEdges];
+        int count = 0;
+        for (int u = 0; u < vertices; u++) {
+            for (int v = u + 1; v < vertices; v++) {
+                either[count] = u;
+                other[count] = v;
+                weight[count] = 1 + random.nextDouble() * 9;
+                count++;
+            }
+        }
+        return new CsrEdgeWeightedGraph(vertices, either, other, weight);
+    }
+}
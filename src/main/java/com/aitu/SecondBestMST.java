@@ -0,0 +1,110 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// the cheapest spanning tree that differs from the minimum spanning tree in at least one edge. It is
+// the MST with one non-tree edge swapped in for the heaviest tree edge on the cycle that edge closes,
+// so one path-maximum query per non-tree edge finds it. With tied weights it may cost as much as the MST.
+public class SecondBestMST {
+    private final int vertices;
+    private final int edgesCount;
+    private Queue<Edge> tree;
+    private double totalWeight;
+    private double mstWeight;
+    private Edge added;
+    private Edge removed;
+    private Metrics tracker;
+
+    public SecondBestMST(EdgeWeightedGraph graph, Metrics tracker) {
+        this.vertices = graph.V();
+        this.edgesCount = graph.E();
+        this.tracker = tracker;
+        tracker.reset();
+        tracker.startTimer();
+
+        Metrics mstMetrics = new Metrics();
+        KruskalMST mst = new KruskalMST(graph, mstMetrics);
+        tracker.add(mstMetrics);
+        mstWeight = mst.weight();
+
+        boolean[] inTree = new boolean[edgesCount];
+        Map<Edge, Integer> ids = new IdentityHashMap<>(edgesCount);
+        Edge[] edges = new Edge[edgesCount];
+        int id = 0;
+        for (Edge e : graph.edges()) {
+            edges[id] = e;
+            ids.put(e, id++);
+        }
+        for (Edge e : mst.edges()) {
+            inTree[ids.get(e)] = true;
+        }
+
+        PathMaxIndex index = new PathMaxIndex(vertices, mst.edges());
+        double bestDelta = Double.POSITIVE_INFINITY;
+        for (int t = 0; t < edgesCount; t++) {
+            if (inTree[t]) continue;
+            int v = edges[t].either();
+            int w = edges[t].other(v);
+            if (v == w) continue;
+            Edge heaviest = index.maxEdge(v, w);
+            double delta = edges[t].weight() - heaviest.weight();
+            tracker.incrementComparison();
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                added = edges[t];
+                removed = heaviest;
+            }
+        }
+        if (added == null) {
+            throw new IllegalStateException("Graph has a single spanning tree, no second-best MST possible");
+        }
+
+        tree = new Queue<>();
+        for (Edge e : mst.edges()) {
+            if (e != removed) {
+                tree.enqueue(e);
+            }
+        }
+        tree.enqueue(added);
+        totalWeight = mstWeight + bestDelta;
+
+        tracker.stopTimer();
+    }
+
+    public Iterable<Edge> edges() {
+        return tree;
+    }
+
+    public double weight() {
+        return totalWeight;
+    }
+
+    public double mstWeight() {
+        return mstWeight;
+    }
+
+    // the non-tree edge swapped into the MST
+    public Edge addedEdge() {
+        return added;
+    }
+
+    // the MST edge it replaces
+    public Edge removedEdge() {
+        return removed;
+    }
+
+    public Metrics getMetrics() {
+        return tracker;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgesCount() {
+        return edgesCount;
+    }
+}
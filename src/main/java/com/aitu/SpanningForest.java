@@ -0,0 +1,75 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// the minimum spanning tree of every connected component; components are numbered
+// 0 through count() - 1 in increasing order of their smallest vertex
+public class SpanningForest {
+    private final int[] component;
+    private final int count;
+    private final int[] size;
+    private final List<Queue<Edge>> trees;
+    private final double[] weights;
+    private double totalWeight;
+
+    SpanningForest(int[] component, int count, Iterable<Edge> edges) {
+        this.component = component;
+        this.count = count;
+        this.size = new int[count];
+        this.trees = new ArrayList<>(count);
+        this.weights = new double[count];
+        for (int c = 0; c < count; c++) {
+            trees.add(new Queue<>());
+        }
+        for (int v = 0; v < component.length; v++) {
+            size[component[v]]++;
+        }
+        for (Edge e : edges) {
+            int c = component[e.either()];
+            trees.get(c).enqueue(e);
+            weights[c] += e.weight();
+            totalWeight += e.weight();
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int component(int v) {
+        validateVertex(v);
+        return component[v];
+    }
+
+    public int size(int c) {
+        validateComponent(c);
+        return size[c];
+    }
+
+    public Iterable<Edge> edges(int c) {
+        validateComponent(c);
+        return trees.get(c);
+    }
+
+    public double weight(int c) {
+        validateComponent(c);
+        return weights[c];
+    }
+
+    public double weight() {
+        return totalWeight;
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= component.length)
+            throw new IllegalArgumentException("vertex " + v + " is not between 0 and " + (component.length - 1));
+    }
+
+    private void validateComponent(int c) {
+        if (c < 0 || c >= count)
+            throw new IllegalArgumentException("component " + c + " is not between 0 and " + (count - 1));
+    }
+}
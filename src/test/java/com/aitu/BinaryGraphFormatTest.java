@@ -0,0 +1,116 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Random;
+
+public class BinaryGraphFormatTest {
+    @TempDir
+    File dir;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        File json = new File(dir, "input.json");
+        Files.write(json.toPath(), randomInput(new Random(53)).getBytes(StandardCharsets.UTF_8));
+        File binary = new File(dir, "input.mstg");
+        try (GraphSource source = GraphSource.open(json)) {
+            assertTrue(source instanceof GraphJsonReader);
+            assertEquals(6, BinaryGraphFormat.convert(source, binary));
+        }
+
+        try (GraphSource expected = new GraphJsonReader(json); GraphSource actual = GraphSource.open(binary)) {
+            assertTrue(actual instanceof BinaryGraphReader);
+            InputGraph a;
+            while ((a = expected.next()) != null) {
+                InputGraph b = actual.next();
+                assertEquals(a.id(), b.id());
+                assertEquals(a.V(), b.V());
+                assertEquals(a.E(), b.E());
+                for (int v = 0; v < a.V(); v++) {
+                    assertEquals(a.symbols().nameOf(v), b.symbols().nameOf(v));
+                }
+
+                Iterator<Edge> left = a.graph().edges().iterator();
+                Iterator<Edge> right = b.graph().edges().iterator();
+                while (left.hasNext()) {
+                    Edge e = left.next();
+                    Edge f = right.next();
+                    assertEquals(e.either(), f.either());
+                    assertEquals(e.other(e.either()), f.other(f.either()));
+                    assertEquals(e.weight(), f.weight());
+                }
+                assertFalse(right.hasNext());
+
+                KruskalMST fromJson = new KruskalMST(a.graph(), new Metrics(), KruskalMST.Strategy.SORT, true);
+                KruskalMST fromCsr = new KruskalMST(b.csr(), new Metrics(), KruskalMST.Strategy.SORT, true);
+                assertEquals(fromJson.weight(), fromCsr.weight(), 1e-9);
+            }
+            assertNull(actual.next());
+        }
+    }
+
+    @Test
+    void testTruncatedFileIsRejected() throws IOException {
+        File json = new File(dir, "input.json");
+        Files.write(json.toPath(), randomInput(new Random(59)).getBytes(StandardCharsets.UTF_8));
+        File binary = new File(dir, "input.mstg");
+        try (GraphSource source = new GraphJsonReader(json)) {
+            BinaryGraphFormat.convert(source, binary);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(binary, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        try (GraphSource source = new BinaryGraphReader(binary)) {
+            IOException e = assertThrows(IOException.class, () -> {
+                while (source.next() != null) { }
+            });
+            assertTrue(e.getMessage().startsWith("Corrupt binary graph file"));
+        }
+        Files.write(binary.toPath(), new byte[]{'M', 'S', 'T'});
+        assertThrows(IOException.class, () -> new BinaryGraphReader(binary));
+    }
+
+    // six graphs with non-ASCII labels, one of them large enough to be memory-mapped
+    private static String randomInput(Random random) {
+        StringBuilder json = new StringBuilder("{\"graphs\": [");
+        int[] sizes = {1, 2, 7, 50, 300, 100_000};
+        for (int g = 0; g < sizes.length; g++) {
+            int V = sizes[g];
+            if (g > 0) json.append(',');
+            json.append("{\"id\": ").append(g + 1).append(", \"nodes\": [");
+            for (int v = 0; v < V; v++) {
+                if (v > 0) json.append(',');
+                json.append("\"район-").append(v).append('"');
+            }
+            json.append("], \"edges\": [");
+            for (int v = 1; v < V; v++) {
+                if (v > 1) json.append(',');
+                appendEdge(json, random.nextInt(v), v, random.nextInt(100) / 4.0);
+            }
+            for (int i = 0; V > 1 && i < 2 * V; i++) {
+                int a = random.nextInt(V);
+                int b = random.nextInt(V);
+                if (a == b) continue;
+                json.append(',');
+                appendEdge(json, a, b, random.nextInt(100) / 4.0);
+            }
+            json.append("]}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendEdge(StringBuilder json, int from, int to, double weight) {
+        json.append("{\"from\": \"район-").append(from).append("\", \"to\": \"район-").append(to)
+                .append("\", \"weight\": ").append(weight).append('}');
+    }
+}
@@ -0,0 +1,69 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BoruvkaMSTTest {
+    @Test
+    void testMSTWeightComparisonWithKruskal() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(4);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(0, 2, 4));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(2, 3, 3));
+
+        Metrics tracker = new Metrics();
+        BoruvkaMST mst = new BoruvkaMST(G, tracker);
+
+        assertEquals(new KruskalMST(G, new Metrics()).weight(), mst.weight(), 0.001);
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) {
+            edgeCount++;
+        }
+        assertEquals(3, edgeCount);
+        assertEquals(4, mst.getVertices());
+        assertEquals(4, mst.getEdgesCount());
+        assertTrue(tracker.getTotalOperations() > 0);
+    }
+
+    @Test
+    void testRandomGraphsWithTies() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int seed = 0; seed < 5; seed++) {
+                Random random = new Random(seed);
+                EdgeWeightedGraph G = new EdgeWeightedGraph(20_000);
+                for (int v = 1; v < G.V(); v++) {
+                    G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(20)));
+                }
+                for (int i = 0; i < 60_000; i++) {
+                    G.addEdge(new Edge(random.nextInt(G.V()), random.nextInt(G.V()), random.nextInt(20)));
+                }
+
+                BoruvkaMST mst = new BoruvkaMST(G, new Metrics(), pool);
+                assertEquals(new KruskalMST(G, new Metrics()).weight(), mst.weight(), 1e-9);
+                int edgeCount = 0;
+                for (Edge e : mst.edges()) {
+                    edgeCount++;
+                }
+                assertEquals(G.V() - 1, edgeCount);
+                assertTrue(mst.getRounds() <= 15);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(3);
+        G.addEdge(new Edge(0, 1, 1));
+
+        Metrics tracker = new Metrics();
+        assertThrows(IllegalStateException.class, () -> new BoruvkaMST(G, tracker));
+    }
+}
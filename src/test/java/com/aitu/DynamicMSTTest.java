@@ -0,0 +1,144 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class DynamicMSTTest {
+    @Test
+    void testReplacesHeaviestEdgeOnCycle() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(4);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(1, 2, 5));
+        G.addEdge(new Edge(2, 3, 3));
+
+        DynamicMST mst = new DynamicMST(G);
+        assertEquals(9.0, mst.weight(), 0.001);
+
+        assertFalse(mst.addEdge(new Edge(0, 3, 6)));
+        assertEquals(9.0, mst.weight(), 0.001);
+
+        assertTrue(mst.addEdge(new Edge(0, 2, 2)));
+        assertEquals(6.0, mst.weight(), 0.001);
+        for (Edge e : mst.edges()) {
+            assertNotEquals(5.0, e.weight());
+        }
+        assertEquals(1, mst.componentCount());
+    }
+
+    @Test
+    void testMatchesKruskalAfterEveryInsertion() {
+        Random random = new Random(17);
+        int V = 300;
+        EdgeWeightedGraph G = new EdgeWeightedGraph(V);
+        DynamicMST mst = new DynamicMST(V);
+        assertEquals(V, mst.componentCount());
+
+        for (int i = 0; i < 3_000; i++) {
+            Edge e = new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(100));
+            G.addEdge(e);
+            mst.addEdge(e);
+            if (i % 100 == 99) {
+                KruskalMST expected = new KruskalMST(G, new Metrics(), KruskalMST.Strategy.SORT, true);
+                assertEquals(expected.weight(), mst.weight(), 1e-9);
+                assertEquals(expected.componentCount(), mst.componentCount());
+                int count = 0;
+                for (Edge f : mst.edges()) {
+                    count++;
+                }
+                assertEquals(V - mst.componentCount(), count);
+            }
+        }
+    }
+
+    @Test
+    void testMatchesKruskalUnderRandomUpdates() {
+        Random random = new Random(23);
+        int V = 200;
+        EdgeWeightedGraph initial = new EdgeWeightedGraph(V);
+        for (int i = 0; i < 600; i++) {
+            initial.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(50)));
+        }
+        DynamicMST mst = new DynamicMST(initial);
+        List<Edge> live = new ArrayList<>();
+        for (Edge e : initial.edges()) {
+            live.add(e);
+        }
+
+        for (int step = 0; step < 5_000; step++) {
+            int op = random.nextInt(3);
+            if (op == 0 || live.isEmpty()) {
+                Edge e = new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(50));
+                mst.addEdge(e);
+                live.add(e);
+            } else {
+                int index = random.nextInt(live.size());
+                Edge e = live.get(index);
+                if (op == 1) {
+                    mst.deleteEdge(e);
+                    live.set(index, live.get(live.size() - 1));
+                    live.remove(live.size() - 1);
+                } else {
+                    live.set(index, mst.changeWeight(e, random.nextInt(50)));
+                }
+            }
+
+            if (step % 250 == 249) {
+                EdgeWeightedGraph G = new EdgeWeightedGraph(V);
+                for (Edge e : live) {
+                    G.addEdge(e);
+                }
+                KruskalMST expected = new KruskalMST(G, new Metrics(), KruskalMST.Strategy.SORT, true);
+                assertEquals(expected.weight(), mst.weight(), 1e-6);
+                assertEquals(expected.componentCount(), mst.componentCount());
+                assertEquals(live.size(), mst.getEdgesCount());
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void testDeletionsInTheMiddleOfALongPath() {
+        // every cut leaves two long halves, so searching the smaller one edge by edge takes V / 4 steps
+        int V = 50_000;
+        DynamicMST mst = new DynamicMST(V);
+        Edge[] path = new Edge[V - 1];
+        for (int v = 0; v + 1 < V; v++) {
+            path[v] = new Edge(v, v + 1, 1);
+            mst.addEdge(path[v]);
+        }
+        for (int v = 0; v + 2 < V; v += 2) {
+            assertFalse(mst.addEdge(new Edge(v, v + 2, 3)));
+        }
+
+        Random random = new Random(31);
+        for (int step = 0; step < 20_000; step++) {
+            int v = V / 4 + random.nextInt(V / 2);
+            assertTrue(mst.deleteEdge(path[v]));
+            // the bypass over the removed edge takes its place
+            assertEquals(V + 1.0, mst.weight(), 1e-9);
+            path[v] = new Edge(v, v + 1, 1);
+            assertTrue(mst.addEdge(path[v]));
+            assertEquals(V - 1.0, mst.weight(), 1e-9);
+        }
+        assertEquals(1, mst.componentCount());
+        assertEquals(V - 1 + V / 2 - 1, mst.getEdgesCount());
+    }
+
+    @Test
+    void testUnknownEdgeIsRejected() {
+        DynamicMST mst = new DynamicMST(3);
+        Edge e = new Edge(0, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> mst.deleteEdge(e));
+        mst.addEdge(e);
+        assertThrows(IllegalArgumentException.class, () -> mst.addEdge(e));
+        assertTrue(mst.deleteEdge(e));
+        assertEquals(3, mst.componentCount());
+        assertEquals(0.0, mst.weight(), 0.001);
+    }
+}
@@ -0,0 +1,133 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class EulerTourTreeTest {
+    @Test
+    void testSmallForest() {
+        EulerTourTree forest = new EulerTourTree(5);
+        forest.link(0, 1, 0);
+        forest.link(2, 1, 1);
+        forest.link(3, 4, 2);
+        assertTrue(forest.connected(0, 2));
+        assertFalse(forest.connected(0, 3));
+        assertEquals(3, forest.size(2));
+        assertEquals(2, forest.size(4));
+
+        forest.setKey(2, 7.0);
+        forest.setKey(0, 3.0);
+        forest.setKey(4, 1.0);
+        assertEquals(0, forest.minKeyVertex(1));
+        assertEquals(4, forest.minKeyVertex(3));
+
+        forest.setMarked(1, true);
+        assertEquals(1, forest.markedEdge(0));
+        assertEquals(-1, forest.markedEdge(3));
+
+        forest.cut(1);
+        assertFalse(forest.connected(0, 2));
+        assertEquals(2, forest.size(0));
+        assertEquals(-1, forest.markedEdge(0));
+        assertEquals(2, forest.minKeyVertex(2));
+        forest.link(2, 3, 1);
+        assertEquals(4, forest.minKeyVertex(2));
+        assertThrows(IllegalArgumentException.class, () -> forest.link(4, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> forest.cut(3));
+    }
+
+    @Test
+    void testMatchesBruteForceUnderRandomLinksAndCuts() {
+        Random random = new Random(29);
+        int V = 60;
+        EulerTourTree forest = new EulerTourTree(V);
+        int[][] slots = new int[V - 1][];
+        double[] keys = new double[V];
+        boolean[] marks = new boolean[V - 1];
+        for (int v = 0; v < V; v++) {
+            keys[v] = Double.POSITIVE_INFINITY;
+        }
+
+        for (int step = 0; step < 20_000; step++) {
+            int v = random.nextInt(V);
+            int w = random.nextInt(V);
+            int s = random.nextInt(V - 1);
+            switch (random.nextInt(4)) {
+                case 0:
+                    if (slots[s] == null && !connected(slots, V, v, w)) {
+                        forest.link(v, w, s);
+                        slots[s] = new int[]{v, w};
+                    }
+                    break;
+                case 1:
+                    if (slots[s] != null) {
+                        forest.cut(s);
+                        slots[s] = null;
+                        marks[s] = false;
+                    }
+                    break;
+                case 2:
+                    keys[v] = random.nextInt(4) == 0 ? Double.POSITIVE_INFINITY : random.nextInt(1000);
+                    forest.setKey(v, keys[v]);
+                    break;
+                default:
+                    if (slots[s] != null) {
+                        marks[s] = random.nextBoolean();
+                        forest.setMarked(s, marks[s]);
+                    }
+            }
+
+            int[] component = components(slots, V);
+            assertEquals(component[v] == component[w], forest.connected(v, w));
+            int size = 0;
+            double minKey = Double.POSITIVE_INFINITY;
+            for (int x = 0; x < V; x++) {
+                if (component[x] == component[v]) {
+                    size++;
+                    minKey = Math.min(minKey, keys[x]);
+                }
+            }
+            assertEquals(size, forest.size(v));
+            int min = forest.minKeyVertex(v);
+            if (minKey == Double.POSITIVE_INFINITY) {
+                assertEquals(-1, min);
+            } else {
+                assertEquals(component[v], component[min]);
+                assertEquals(minKey, keys[min]);
+            }
+            int marked = forest.markedEdge(v);
+            boolean anyMarked = false;
+            for (int t = 0; t < V - 1; t++) {
+                anyMarked |= marks[t] && component[slots[t][0]] == component[v];
+            }
+            if (anyMarked) {
+                assertTrue(marks[marked]);
+                assertEquals(component[v], component[slots[marked][0]]);
+            } else {
+                assertEquals(-1, marked);
+            }
+        }
+    }
+
+    private static boolean connected(int[][] slots, int V, int v, int w) {
+        int[] component = components(slots, V);
+        return component[v] == component[w];
+    }
+
+    private static int[] components(int[][] slots, int V) {
+        UF uf = new UF(V);
+        for (int[] edge : slots) {
+            if (edge != null) {
+                uf.union(edge[0], edge[1]);
+            }
+        }
+        int[] component = new int[V];
+        for (int v = 0; v < V; v++) {
+            component[v] = uf.find(v);
+        }
+        return component;
+    }
+}
@@ -0,0 +1,67 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class GraphJsonReaderTest {
+    @Test
+    void testReadsGraphsInOrder() throws IOException {
+        String json = "{\"generated\": {\"by\": [1, 2]}, \"graphs\": ["
+                + "{\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 4}, {\"from\": \"B\", \"to\": \"C\", \"weight\": 2.5}]},"
+                + "{\"edges\": [{\"weight\": 7, \"to\": \"Y\", \"from\": \"X\", \"note\": {}}], \"id\": 2, \"nodes\": [\"X\", \"Y\"]}"
+                + "]}";
+
+        try (GraphJsonReader reader = reader(json)) {
+            InputGraph first = reader.next();
+            assertEquals(1, first.id());
+            assertEquals(3, first.symbols().size());
+            assertEquals("B", first.symbols().nameOf(1));
+            assertEquals(2, first.symbols().indexOf("C"));
+            assertEquals(3, first.graph().V());
+            assertEquals(2, first.graph().E());
+            assertEquals(6.5, new KruskalMST(first.graph(), new Metrics()).weight(), 1e-9);
+
+            InputGraph second = reader.next();
+            assertEquals(2, second.id());
+            assertEquals(1, second.graph().E());
+            Edge edge = second.graph().edges().iterator().next();
+            assertEquals(7.0, edge.weight(), 1e-9);
+            assertEquals(1, edge.either() + edge.other(edge.either()));
+
+            assertNull(reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void testValidation() throws IOException {
+        assertInvalid("{\"graphs\": [{\"id\": 1, \"nodes\": [], \"edges\": []}]}", "Graph has no vertices");
+        assertInvalid("{\"graphs\": [{\"id\": 1, \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": -1}]}]}",
+                "Negative edge weight detected: -1.00 (from A to B)");
+        assertInvalid("{\"graphs\": [{\"id\": 1, \"edges\": [{\"from\": \"A\", \"to\": \"A\", \"weight\": 1}], \"nodes\": [\"A\"]}]}",
+                "Self-loop detected: A -> A");
+        assertInvalid("{\"graphs\": [{\"id\": 1, \"nodes\": [\"A\"], \"edges\": [{\"from\": \"A\", \"to\": \"Z\", \"weight\": 1}]}]}",
+                "Unknown vertex: Z");
+        assertInvalid("{\"graphs\": [{\"id\": 1, \"nodes\": [\"A\", \"B\", \"A\"], \"edges\": []}]}", "Duplicate vertex: A");
+        try (GraphJsonReader reader = reader("{\"results\": []}")) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    private static void assertInvalid(String json, String message) throws IOException {
+        try (GraphJsonReader reader = reader(json)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::next);
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private static GraphJsonReader reader(String json) throws IOException {
+        return new GraphJsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,122 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+public class GraphPipelineTest {
+    @Test
+    void testResultsKeepInputOrder() throws IOException {
+        int graphs = 200;
+        List<Integer> written = new ArrayList<>();
+        Random random = new Random(47);
+        long[] delays = new long[graphs];
+        for (int i = 0; i < graphs; i++) delays[i] = random.nextInt(3);
+
+        try (GraphJsonReader reader = reader(graphs)) {
+            int count = new GraphPipeline<Integer>(4, 3).run(reader, input -> {
+                Thread.sleep(delays[input.id()]);
+                assertEquals(input.id() + 1.0, new KruskalMST(input.graph(), new Metrics()).weight(), 1e-9);
+                return input.id();
+            }, written::add);
+            assertEquals(graphs, count);
+        }
+
+        for (int i = 0; i < graphs; i++) {
+            assertEquals(i, written.get(i));
+        }
+    }
+
+    @Test
+    void testFailuresReachTheWriter() throws IOException {
+        try (GraphJsonReader reader = reader(10)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                    new GraphPipeline<Integer>(2).run(reader, input -> {
+                        if (input.id() == 5) throw new IllegalStateException("graph 5");
+                        return input.id();
+                    }, result -> assertTrue(result < 5)));
+            assertEquals("graph 5", e.getMessage());
+        }
+
+        String broken = "{\"graphs\": [{\"id\": 0, \"nodes\": [\"A\"], \"edges\": []}, {\"id\": 1, \"nodes\": []}]}";
+        try (GraphJsonReader reader = new GraphJsonReader(new ByteArrayInputStream(broken.getBytes(StandardCharsets.UTF_8)))) {
+            List<Integer> written = new ArrayList<>();
+            assertThrows(IllegalArgumentException.class, () ->
+                    new GraphPipeline<Integer>(2).run(reader, InputGraph::id, written::add));
+            assertEquals(List.of(0), written);
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void testParserErrorReachesTheWriter() {
+        GraphSource source = source(id -> {
+            if (id == 3) throw new OutOfMemoryError("simulated");
+        });
+        List<Integer> written = new ArrayList<>();
+        OutOfMemoryError e = assertThrows(OutOfMemoryError.class, () ->
+                new GraphPipeline<Integer>(2).run(source, InputGraph::id, written::add));
+        assertEquals("simulated", e.getMessage());
+        assertEquals(List.of(0, 1, 2), written);
+    }
+
+    @Test
+    @Timeout(30)
+    void testRunWaitsForTheParser() {
+        AtomicBoolean reading = new AtomicBoolean();
+        GraphSource source = source(id -> {
+            // an uninterruptible read that is still going when the writer fails
+            reading.set(true);
+            long end = System.nanoTime() + 200_000_000L;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            reading.set(false);
+        });
+        assertThrows(IOException.class, () -> new GraphPipeline<Integer>(2).run(source, InputGraph::id, result -> {
+            throw new IOException("disk full");
+        }));
+        assertFalse(reading.get());
+    }
+
+    // an endless source of one-vertex graphs that calls before(id) ahead of returning graph id
+    private static GraphSource source(IntConsumer before) {
+        return new GraphSource() {
+            private int next;
+
+            @Override
+            public InputGraph next() {
+                before.accept(next);
+                VertexSymbolTable symbols = new VertexSymbolTable();
+                symbols.add("A");
+                return new InputGraph(next++, symbols, new int[0], new int[0], new double[0]);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    // graph i is the path 0 - 1 with weight i + 1
+    private static GraphJsonReader reader(int graphs) throws IOException {
+        StringBuilder json = new StringBuilder("{\"graphs\": [");
+        for (int i = 0; i < graphs; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\": ").append(i).append(", \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": ")
+                    .append(i + 1).append("}]}");
+        }
+        json.append("]}");
+        return new GraphJsonReader(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+public class IndexedMinPQTest {
+
+    private static void checkAgainstBinaryHeap(IntFunction<IndexedMinPQ> factory) {
+        int capacity = 300;
+        Random random = new Random(1);
+        IndexedMinPQ expected = new DoubleIndexMinPQ(capacity);
+        IndexedMinPQ actual = factory.apply(capacity);
+
+        for (int step = 0; step < 20_000; step++) {
+            int i = random.nextInt(capacity);
+            int op = random.nextInt(3);
+            if (op == 0 && !expected.contains(i)) {
+                double key = random.nextDouble();
+                expected.insert(i, key);
+                actual.insert(i, key);
+            } else if (op == 1 && expected.contains(i)) {
+                double key = expected.keyOf(i) * random.nextDouble() - 0.001;
+                expected.decreaseKey(i, key);
+                actual.decreaseKey(i, key);
+            } else if (op == 2 && !expected.isEmpty()) {
+                assertEquals(expected.minKey(), actual.minKey());
+                int min = actual.delMin();
+                assertEquals(expected.keyOf(min), expected.minKey());
+                assertEquals(expected.delMin(), min);
+            }
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected.contains(i), actual.contains(i));
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.delMin(), actual.delMin());
+        }
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void testDaryHeap() {
+        for (int d : new int[]{2, 4, 8}) {
+            checkAgainstBinaryHeap(n -> new DaryIndexMinPQ(n, d));
+        }
+    }
+
+    @Test
+    void testPairingHeap() {
+        checkAgainstBinaryHeap(PairingIndexMinPQ::new);
+    }
+
+    @Test
+    void testFibonacciHeap() {
+        checkAgainstBinaryHeap(FibonacciIndexMinPQ::new);
+    }
+
+    @Test
+    void testPrimOnDenseGraph() {
+        CsrEdgeWeightedGraph G = RandomGraphs.complete(120, new Random(3));
+        double expected = new KruskalMST(G, new Metrics()).weight();
+
+        assertEquals(expected, new PrimMST(G, new Metrics(), PairingIndexMinPQ::new).weight(), 1e-9);
+        assertEquals(expected, new PrimMST(G, new Metrics(), FibonacciIndexMinPQ::new).weight(), 1e-9);
+    }
+
+    @Test
+    void testEmptyHeapThrows() {
+        IndexedMinPQ pq = new FibonacciIndexMinPQ(3);
+        assertThrows(NoSuchElementException.class, pq::delMin);
+        pq.insert(1, 2.0);
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> pq.decreaseKey(1, 3.0));
+    }
+}
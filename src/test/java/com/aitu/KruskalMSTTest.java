@@ -4,6 +4,12 @@ import com.aitu.Dependencies.*;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class KruskalMSTTest {
 
     @Test
@@ -102,4 +108,197 @@ public class KruskalMSTTest {
         assertEquals(4, mst2.getVertices());
         assertEquals(4, mst2.getEdgesCount());
     }
+
+    @Test
+    void testCsrGraphGivesIdenticalMST() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(50);
+        Random random = new Random(42);
+        for (int v = 1; v < 50; v++) {
+            G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(10)));
+        }
+        for (int i = 0; i < 150; i++) {
+            int v = random.nextInt(50);
+            int w = random.nextInt(50);
+            if (v != w) G.addEdge(new Edge(v, w, random.nextInt(10)));
+        }
+
+        KruskalMST expected = new KruskalMST(G, new Metrics());
+        KruskalMST actual = new KruskalMST(new CsrEdgeWeightedGraph(G), new Metrics());
+
+        assertEquals(expected.weight(), actual.weight(), 0.001);
+        Iterator<Edge> it = actual.edges().iterator();
+        for (Edge e : expected.edges()) {
+            assertEquals(e.toString(), it.next().toString());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testStrategiesMatchSortedKruskal() {
+        Random random = new Random(11);
+        EdgeWeightedGraph G = new EdgeWeightedGraph(3000);
+        for (int v = 1; v < G.V(); v++) {
+            G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(50)));
+        }
+        for (int i = 0; i < 30_000; i++) {
+            G.addEdge(new Edge(random.nextInt(G.V()), random.nextInt(G.V()), random.nextInt(50)));
+        }
+
+        KruskalMST expected = new KruskalMST(G, new Metrics());
+        CsrEdgeWeightedGraph csr = new CsrEdgeWeightedGraph(G);
+        for (KruskalMST.Strategy strategy : KruskalMST.Strategy.values()) {
+            assertSameEdges(expected, new KruskalMST(G, new Metrics(), strategy));
+            assertSameEdges(expected, new KruskalMST(csr, new Metrics(), strategy));
+        }
+    }
+
+    @Test
+    void testHeapKruskalStopsEarly() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(100);
+        for (int v = 1; v < G.V(); v++) {
+            G.addEdge(new Edge(v - 1, v, 1));
+        }
+        for (int v = 2; v < G.V(); v++) {
+            G.addEdge(new Edge(0, v, 100 + v));
+        }
+
+        Metrics tracker = new Metrics();
+        KruskalMST mst = new KruskalMST(G, tracker, KruskalMST.Strategy.HEAP);
+
+        assertEquals(99.0, mst.weight(), 0.001);
+        assertEquals(99, tracker.getExtractedEdges());
+    }
+
+    @Test
+    void testFilterKruskalSurvivesBadPivots() throws InterruptedException {
+        int V = 2000;
+        int E = 100_000;
+        double[] weight = medianOfThreeKiller(E, new Random(17));
+        Random random = new Random(19);
+        int[] either = new int[E];
+        int[] other = new int[E];
+        for (int id = 0; id < E; id++) {
+            either[id] = random.nextInt(V);
+            other[id] = random.nextInt(V);
+        }
+        CsrEdgeWeightedGraph G = new CsrEdgeWeightedGraph(V, either, other, weight);
+        KruskalMST expected = new KruskalMST(G, new Metrics(), KruskalMST.Strategy.SORT, true);
+
+        // a small stack, so recursing once per partition overflows long before the input runs out
+        AtomicReference<Object> result = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            try {
+                result.set(new KruskalMST(G, new Metrics(), KruskalMST.Strategy.FILTER, true));
+            } catch (Throwable e) {
+                result.set(e);
+            }
+        }, "filter-kruskal", 256 * 1024);
+        thread.start();
+        thread.join();
+        assertInstanceOf(KruskalMST.class, result.get());
+        assertSameEdges(expected, (KruskalMST) result.get());
+    }
+
+    // weights against filterKruskal's median-of-three pivot: whenever a partition samples an edge whose
+    // weight is still open, it gets a heavier weight than every open one, so the heaviest sample and the
+    // few edges above the pivot leave and nearly the whole range goes on to the light side
+    private static double[] medianOfThreeKiller(int E, Random random) {
+        double[] weight = new double[E];
+        boolean[] assigned = new boolean[E];
+        int[] fenwick = new int[E + 1];
+        for (int i = 0; i < E; i++) {
+            add(fenwick, i, 1);
+        }
+        TreeSet<Integer> heavy = new TreeSet<>(Comparator.comparingDouble((Integer id) -> weight[id]));
+        double next = 2.0 * E;
+        for (int size = E; size > 1024; ) {
+            int[] sample = {select(fenwick, 0), select(fenwick, size / 2), select(fenwick, size - 1)};
+            for (int id : sample) {
+                if (!assigned[id]) {
+                    assigned[id] = true;
+                    weight[id] = next--;
+                    heavy.add(id);
+                }
+            }
+            double a = weight[sample[0]], b = weight[sample[1]], c = weight[sample[2]];
+            double pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+            while (weight[heavy.last()] > pivot) {
+                add(fenwick, heavy.pollLast(), -1);
+                size--;
+            }
+        }
+        for (int id = 0; id < E; id++) {
+            if (!assigned[id]) {
+                weight[id] = random.nextInt(E);
+            }
+        }
+        return weight;
+    }
+
+    private static void add(int[] fenwick, int i, int delta) {
+        for (i++; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    // position of the k-th (from 0) position still counted
+    private static int select(int[] fenwick, int k) {
+        int pos = 0;
+        for (int step = Integer.highestOneBit(fenwick.length - 1); step > 0; step >>= 1) {
+            if (pos + step < fenwick.length && fenwick[pos + step] <= k) {
+                pos += step;
+                k -= fenwick[pos];
+            }
+        }
+        return pos;
+    }
+
+    private static void assertSameEdges(KruskalMST expected, KruskalMST actual) {
+        assertEquals(expected.weight(), actual.weight(), 1e-9);
+        Iterator<Edge> it = actual.edges().iterator();
+        for (Edge e : expected.edges()) {
+            assertEquals(e.toString(), it.next().toString());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testRadixSortsOnLargeGraph() {
+        CsrEdgeWeightedGraph G = RandomGraphs.connected(100_000, 5, new Random(5));
+        KruskalMST expected = new KruskalMST(G, new Metrics());
+        assertSameEdges(expected, new KruskalMST(G, new Metrics(), KruskalMST.Strategy.PARALLEL_SORT));
+        assertSameEdges(expected, new KruskalMST(G, new Metrics(), KruskalMST.Strategy.RADIX));
+    }
+
+    @Test
+    void testSpanningForestMatchesPrim() {
+        Random random = new Random(13);
+        EdgeWeightedGraph G = new EdgeWeightedGraph(2000);
+        // four separate blocks of vertices plus a few isolated ones at the end
+        for (int i = 0; i < 12_000; i++) {
+            int block = random.nextInt(4) * 490;
+            G.addEdge(new Edge(block + random.nextInt(490), block + random.nextInt(490), random.nextInt(30)));
+        }
+
+        SpanningForest expected = new PrimMST(G, new Metrics(), DoubleIndexMinPQ::new, true).forest();
+        CsrEdgeWeightedGraph csr = new CsrEdgeWeightedGraph(G);
+        for (KruskalMST.Strategy strategy : KruskalMST.Strategy.values()) {
+            for (KruskalMST mst : new KruskalMST[]{
+                    new KruskalMST(G, new Metrics(), strategy, true),
+                    new KruskalMST(csr, new Metrics(), strategy, true)}) {
+                SpanningForest forest = mst.forest();
+                assertEquals(expected.count(), forest.count());
+                assertEquals(expected.count(), mst.componentCount());
+                for (int v = 0; v < G.V(); v++) {
+                    assertEquals(expected.component(v), forest.component(v));
+                }
+                for (int c = 0; c < forest.count(); c++) {
+                    assertEquals(expected.weight(c), forest.weight(c), 1e-9);
+                }
+            }
+        }
+        assertTrue(expected.count() >= 4 + 40);
+        assertThrows(IllegalStateException.class, () -> new KruskalMST(csr, new Metrics()));
+    }
+
 }
\ No newline at end of file
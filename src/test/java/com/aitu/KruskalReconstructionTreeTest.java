@@ -0,0 +1,71 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class KruskalReconstructionTreeTest {
+    @Test
+    void testSmallGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(5);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(0, 2, 5));
+        G.addEdge(new Edge(2, 3, 3));
+
+        KruskalMST mst = new KruskalMST(G, new Metrics(), KruskalMST.Strategy.SORT, true, true);
+        KruskalReconstructionTree tree = mst.reconstructionTree();
+
+        assertEquals(5 + 3, tree.nodeCount());
+        assertEquals(3.0, tree.minimax(0, 3), 1e-9);
+        assertEquals(2.0, tree.minimax(0, 2), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, tree.minimax(0, 4));
+        assertTrue(tree.connectedUnder(1, 2, 2));
+        assertFalse(tree.connectedUnder(1, 3, 2.5));
+        assertEquals(3, tree.componentSize(0, 2));
+        assertEquals(4, tree.componentSize(3, 10));
+        assertEquals(1, tree.componentSize(4, 10));
+        assertEquals(3.0, tree.weight(tree.lca(0, 3)), 1e-9);
+        assertEquals(-1, tree.lca(0, 4));
+
+        assertNull(new KruskalMST(G, new Metrics(), KruskalMST.Strategy.SORT, true).reconstructionTree());
+    }
+
+    @Test
+    void testMinimaxMatchesPathMaximum() {
+        Random random = new Random(37);
+        CsrEdgeWeightedGraph G = RandomGraphs.connected(3000, 4, new Random(37));
+
+        for (KruskalMST.Strategy strategy : KruskalMST.Strategy.values()) {
+            KruskalMST mst = new KruskalMST(G, new Metrics(), strategy, false, true);
+            KruskalReconstructionTree tree = mst.reconstructionTree();
+            PathMaxIndex index = new PathMaxIndex(G.V(), mst.edges());
+            assertEquals(2 * G.V() - 1, tree.nodeCount());
+
+            for (int i = 0; i < 2_000; i++) {
+                int u = random.nextInt(G.V());
+                int v = random.nextInt(G.V());
+                assertEquals(index.query(u, v), tree.minimax(u, v), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testComponentSizeMatchesUnionFind() {
+        CsrEdgeWeightedGraph G = RandomGraphs.connected(500, 3, new Random(41));
+        KruskalReconstructionTree tree = new KruskalMST(G, new Metrics(), KruskalMST.Strategy.RADIX, false, true)
+                .reconstructionTree();
+
+        for (double threshold : new double[]{0.5, 2, 4, 6, 10}) {
+            WeightedQuickUnionUF uf = new WeightedQuickUnionUF(G.V());
+            for (int id = 0; id < G.E(); id++) {
+                if (G.edgeWeight(id) <= threshold) uf.union(G.either(id), G.other(id));
+            }
+            for (int v = 0; v < G.V(); v += 7) {
+                assertEquals(uf.size(v), tree.componentSize(v, threshold));
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class LazyPrimMSTTest {
+    @Test
+    void testMSTWeightComparisonWithPrim() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(4);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(0, 2, 4));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(2, 3, 3));
+
+        Metrics tracker = new Metrics();
+        LazyPrimMST mst = new LazyPrimMST(G, tracker);
+
+        assertEquals(new PrimMST(G, new Metrics()).weight(), mst.weight(), 0.001);
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) {
+            edgeCount++;
+        }
+        assertEquals(3, edgeCount);
+        assertEquals(4, mst.getVertices());
+        assertEquals(4, mst.getEdgesCount());
+        assertTrue(tracker.getTotalOperations() > 0);
+        assertTrue(tracker.getMaxPQSize() > 0);
+    }
+
+    @Test
+    void testRandomGraphs() {
+        for (int seed = 0; seed < 10; seed++) {
+            CsrEdgeWeightedGraph G = RandomGraphs.connected(300, 4, new Random(seed));
+            assertEquals(new PrimMST(G, new Metrics()).weight(), new LazyPrimMST(G, new Metrics()).weight(), 1e-9);
+        }
+    }
+
+    @Test
+    void testReturnsTheGraphsOwnEdges() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(4);
+        Edge[] edges = {new Edge(0, 1, 1), new Edge(0, 2, 4), new Edge(1, 2, 2), new Edge(2, 3, 3)};
+        for (Edge e : edges) {
+            G.addEdge(e);
+        }
+
+        LazyPrimMST mst = new LazyPrimMST(G, new Metrics());
+        for (Edge e : mst.edges()) {
+            assertTrue(e == edges[0] || e == edges[2] || e == edges[3]);
+        }
+        assertDoesNotThrow(() -> new MSTSensitivity(G, mst.edges()));
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(3);
+        G.addEdge(new Edge(0, 1, 1));
+
+        Metrics tracker = new Metrics();
+        assertThrows(IllegalStateException.class, () -> new LazyPrimMST(G, tracker));
+    }
+}
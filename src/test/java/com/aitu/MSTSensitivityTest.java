@@ -0,0 +1,78 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class MSTSensitivityTest {
+    @Test
+    void testSmallGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(5);
+        Edge a = new Edge(0, 1, 1);
+        Edge b = new Edge(1, 2, 2);
+        Edge c = new Edge(0, 2, 5);
+        Edge d = new Edge(2, 3, 3);
+        Edge bridge = new Edge(3, 4, 7);
+        for (Edge e : new Edge[]{a, b, c, d, bridge}) {
+            G.addEdge(e);
+        }
+
+        KruskalMST mst = new KruskalMST(G, new Metrics());
+        MSTSensitivity sensitivity = new MSTSensitivity(G, mst.edges());
+
+        assertTrue(sensitivity.isTreeEdge(a));
+        assertFalse(sensitivity.isTreeEdge(c));
+        assertEquals(4.0, sensitivity.maxIncrease(a), 1e-9);
+        assertEquals(3.0, sensitivity.maxIncrease(b), 1e-9);
+        assertSame(c, sensitivity.replacement(b));
+        assertEquals(Double.POSITIVE_INFINITY, sensitivity.maxIncrease(bridge));
+        assertNull(sensitivity.replacement(bridge));
+        assertEquals(3.0, sensitivity.requiredDecrease(c), 1e-9);
+        assertSame(b, sensitivity.heaviestOnCycle(c));
+        assertThrows(IllegalArgumentException.class, () -> sensitivity.requiredDecrease(a));
+        assertThrows(IllegalArgumentException.class, () -> sensitivity.maxIncrease(new Edge(0, 1, 1)));
+    }
+
+    @Test
+    void testMatchesRecomputation() {
+        Random random = new Random(29);
+        int V = 60;
+        EdgeWeightedGraph G = new EdgeWeightedGraph(V);
+        for (int v = 1; v < V; v++) {
+            G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(40)));
+        }
+        for (int i = 0; i < 150; i++) {
+            G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(40)));
+        }
+
+        PrimMST mst = new PrimMST(G, new Metrics());
+        double weight = mst.weight();
+        MSTSensitivity sensitivity = new MSTSensitivity(G, mst.edges());
+
+        for (Edge e : G.edges()) {
+            if (sensitivity.isTreeEdge(e)) {
+                // dropping a tree edge costs exactly its replacement's extra weight
+                EdgeWeightedGraph without = new EdgeWeightedGraph(V);
+                for (Edge f : G.edges()) {
+                    if (f != e) without.addEdge(f);
+                }
+                KruskalMST rebuilt = new KruskalMST(without, new Metrics(), KruskalMST.Strategy.SORT, true);
+                if (rebuilt.componentCount() > 1) {
+                    assertEquals(Double.POSITIVE_INFINITY, sensitivity.maxIncrease(e));
+                } else {
+                    assertEquals(rebuilt.weight() - weight, sensitivity.maxIncrease(e), 1e-9);
+                }
+            } else if (e.either() != e.other(e.either())) {
+                // forcing a non-tree edge in costs exactly its required decrease
+                EdgeWeightedGraph forced = new EdgeWeightedGraph(V);
+                for (Edge f : G.edges()) {
+                    forced.addEdge(f == e ? new Edge(e.either(), e.other(e.either()), -1) : f);
+                }
+                double forcedWeight = new KruskalMST(forced, new Metrics()).weight() + 1 + e.weight();
+                assertEquals(forcedWeight - weight, sensitivity.requiredDecrease(e), 1e-9);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.aitu;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class OutputJsonWriterTest {
+    @TempDir
+    File dir;
+
+    @Test
+    void testPrettyLayout() throws IOException {
+        JSONObject result = new JSONObject()
+                .put("mst_edges", new JSONArray().put(new JSONObject().put("from", "A")).put(new JSONObject()).put(new JSONArray()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputJsonWriter writer = new OutputJsonWriter(out, true)) {
+            writer.write(new JSONObject().put("graph_id", 1));
+            writer.write(new JSONObject().put("prim", result));
+            assertEquals(2, writer.getWritten());
+            writer.finish();
+        }
+
+        String expected = "{\n"
+                + "    \"results\": [\n"
+                + "        {\n"
+                + "            \"graph_id\": 1\n"
+                + "        },\n"
+                + "        {\n"
+                + "            \"prim\": {\n"
+                + "                \"mst_edges\": [\n"
+                + "                    {\n"
+                + "                        \"from\": \"A\"\n"
+                + "                    },\n"
+                + "                    {},\n"
+                + "                    []\n"
+                + "                ]\n"
+                + "            }\n"
+                + "        }\n"
+                + "    ]\n"
+                + "}";
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCompactRoundTrip() throws IOException {
+        JSONObject result = new JSONObject()
+                .put("graph_id", 7)
+                .put("total_cost", 12.5)
+                .put("operations_count", 4_000_000_000L)
+                .put("replacement", JSONObject.NULL)
+                .put("label", "a \"quoted\" name")
+                .put("input_stats", new JSONObject().put("vertices", 3).put("edges", 2));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputJsonWriter writer = new OutputJsonWriter(out, false)) {
+            for (int i = 0; i < 3; i++) {
+                writer.write(result);
+            }
+            writer.finish();
+        }
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertFalse(json.contains(" \"") || json.contains("\n"));
+        JSONArray results = new JSONObject(json).getJSONArray("results");
+        assertEquals(3, results.length());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(result.similar(results.getJSONObject(i)));
+        }
+    }
+
+    @Test
+    void testUnfinishedOutputIsNotComplete() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputJsonWriter writer = new OutputJsonWriter(out, false)) {
+            writer.write(new JSONObject().put("graph_id", 1));
+            assertFalse(writer.isFinished());
+        }
+        assertEquals("{\"results\":[{\"graph_id\":1}", out.toString(StandardCharsets.UTF_8));
+
+        File file = new File(dir, "output.json");
+        try (OutputJsonWriter writer = new OutputJsonWriter(file, true)) {
+            writer.write(new JSONObject().put("graph_id", 1));
+            assertTrue(file.exists());
+        }
+        assertFalse(file.exists());
+
+        try (OutputJsonWriter writer = new OutputJsonWriter(file, true)) {
+            writer.finish();
+        }
+        assertEquals(0, new JSONObject(Files.readString(file.toPath())).getJSONArray("results").length());
+    }
+}
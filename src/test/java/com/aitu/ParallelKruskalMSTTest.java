@@ -0,0 +1,89 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelKruskalMSTTest {
+    @Test
+    void testConnectedGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(4);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(0, 2, 4));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(2, 3, 3));
+
+        ParallelMetrics tracker = new ParallelMetrics();
+        ParallelKruskalMST mst = new ParallelKruskalMST(G, tracker);
+
+        assertEquals(6.0, mst.weight(), 0.001);
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) {
+            edgeCount++;
+        }
+        assertEquals(3, edgeCount);
+        assertEquals(4, mst.getVertices());
+        assertEquals(4, mst.getEdgesCount());
+        assertTrue(tracker.getTotalOperations() > 0);
+        assertEquals(ForkJoinPool.commonPool().getParallelism(), tracker.getThreads());
+    }
+
+    @Test
+    void testMatchesKruskalEdgeForEdge() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int seed = 0; seed < 3; seed++) {
+                Random random = new Random(seed);
+                EdgeWeightedGraph G = new EdgeWeightedGraph(20_000);
+                for (int v = 1; v < G.V(); v++) {
+                    G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(20)));
+                }
+                for (int i = 0; i < 100_000; i++) {
+                    G.addEdge(new Edge(random.nextInt(G.V()), random.nextInt(G.V()), random.nextInt(20)));
+                }
+
+                KruskalMST expected = new KruskalMST(G, new Metrics());
+                ParallelMetrics tracker = new ParallelMetrics();
+                assertSameEdges(expected, new ParallelKruskalMST(G, tracker, pool));
+                assertSameEdges(expected, new ParallelKruskalMST(new CsrEdgeWeightedGraph(G), new ParallelMetrics(), pool));
+                assertEquals(4, tracker.getThreads());
+                assertTrue(tracker.getFilteredEdges() > 0);
+                assertTrue(tracker.getExtractedEdges() <= tracker.getCandidateEdges());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSpeedupAgainstBaseline() {
+        CsrEdgeWeightedGraph G = RandomGraphs.connected(50_000, 5, new Random(7));
+        ParallelMetrics tracker = new ParallelMetrics();
+        new ParallelKruskalMST(G, tracker);
+        assertEquals(0.0, tracker.getSpeedup());
+
+        tracker.setBaselineTimeMs(tracker.getExecutionTimeMs() * 2);
+        assertEquals(2.0, tracker.getSpeedup(), 1e-9);
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(3);
+        G.addEdge(new Edge(0, 1, 1));
+
+        assertThrows(IllegalStateException.class, () -> new ParallelKruskalMST(G, new ParallelMetrics()));
+    }
+
+    private static void assertSameEdges(KruskalMST expected, ParallelKruskalMST actual) {
+        assertEquals(expected.weight(), actual.weight(), 1e-9);
+        Iterator<Edge> it = actual.edges().iterator();
+        for (Edge e : expected.edges()) {
+            assertEquals(e.toString(), it.next().toString());
+        }
+        assertFalse(it.hasNext());
+    }
+}
@@ -0,0 +1,76 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class PathMaxIndexTest {
+    @Test
+    void testPathQueries() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(6);
+        G.addEdge(new Edge(0, 1, 4));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(1, 3, 7));
+        G.addEdge(new Edge(3, 4, 1));
+        G.addEdge(new Edge(0, 4, 9));
+
+        PathMaxIndex index = new PathMaxIndex(G.V(), new KruskalMST(G, new Metrics(), KruskalMST.Strategy.SORT, true).edges());
+
+        assertEquals(4.0, index.query(2, 0), 1e-9);
+        assertEquals(7.0, index.query(2, 4), 1e-9);
+        assertEquals(1.0, index.query(4, 3), 1e-9);
+        assertEquals(7.0, index.maxEdge(0, 4).weight(), 1e-9);
+        assertEquals(Double.NEGATIVE_INFINITY, index.query(3, 3));
+        assertEquals(Double.POSITIVE_INFINITY, index.query(0, 5));
+        assertNull(index.maxEdge(5, 2));
+        assertFalse(index.connected(5, 0));
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(31);
+        CsrEdgeWeightedGraph G = RandomGraphs.connected(400, 3, new Random(31));
+        PrimMST mst = new PrimMST(G, new Metrics());
+        PathMaxIndex index = new PathMaxIndex(G.V(), mst.edges());
+
+        EdgeWeightedGraph tree = new EdgeWeightedGraph(G.V());
+        for (Edge e : mst.edges()) {
+            tree.addEdge(e);
+        }
+
+        int queries = 2_000;
+        int[] from = new int[queries];
+        int[] to = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            from[i] = random.nextInt(G.V());
+            to[i] = random.nextInt(G.V());
+        }
+        double[] batch = index.query(from, to);
+        for (int i = 0; i < queries; i++) {
+            double expected = from[i] == to[i] ? Double.NEGATIVE_INFINITY : bruteForce(tree, from[i], to[i], -1);
+            assertEquals(expected, index.query(from[i], to[i]), 1e-9);
+            assertEquals(expected, batch[i], 1e-9);
+        }
+    }
+
+    @Test
+    void testCycleIsRejected() {
+        Edge[] cycle = {new Edge(0, 1, 1), new Edge(1, 2, 1), new Edge(2, 0, 1)};
+        assertThrows(IllegalArgumentException.class, () -> new PathMaxIndex(3, Arrays.asList(cycle)));
+    }
+
+    // heaviest edge on the path from v to target in a tree, or NaN if target is not below v
+    private static double bruteForce(EdgeWeightedGraph tree, int v, int target, int parent) {
+        if (v == target) return Double.NEGATIVE_INFINITY;
+        for (Edge e : tree.adj(v)) {
+            int w = e.other(v);
+            if (w == parent) continue;
+            double below = bruteForce(tree, w, target, v);
+            if (!Double.isNaN(below)) return Math.max(below, e.weight());
+        }
+        return Double.NaN;
+    }
+}
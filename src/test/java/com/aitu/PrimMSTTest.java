@@ -4,6 +4,9 @@ import com.aitu.Dependencies.*;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Iterator;
+import java.util.Random;
+
 public class PrimMSTTest {
     @Test
     void testMSTWeightComparisonWithKruskal() {
@@ -102,4 +105,76 @@ public class PrimMSTTest {
         assertEquals(4, mst2.getEdgesCount());
     }
 
+    @Test
+    void testCsrGraphGivesIdenticalMST() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(50);
+        Random random = new Random(42);
+        for (int v = 1; v < 50; v++) {
+            G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(10)));
+        }
+        for (int i = 0; i < 150; i++) {
+            int v = random.nextInt(50);
+            int w = random.nextInt(50);
+            if (v != w) G.addEdge(new Edge(v, w, random.nextInt(10)));
+        }
+
+        PrimMST expected = new PrimMST(G, new Metrics());
+        PrimMST actual = new PrimMST(new CsrEdgeWeightedGraph(G), new Metrics());
+
+        assertEquals(expected.weight(), actual.weight(), 0.001);
+        Iterator<Edge> it = actual.edges().iterator();
+        for (Edge e : expected.edges()) {
+            assertEquals(e.toString(), it.next().toString());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testDaryHeapsGiveSameWeight() {
+        CsrEdgeWeightedGraph G = RandomGraphs.connected(500, 4, new Random(7));
+        double expected = new PrimMST(G, new Metrics()).weight();
+
+        for (int d : new int[]{2, 3, 4, 8}) {
+            Metrics tracker = new Metrics();
+            PrimMST mst = new PrimMST(G, tracker, n -> new DaryIndexMinPQ(n, d));
+            assertEquals(expected, mst.weight(), 1e-9, "arity " + d);
+            int count = 0;
+            for (Edge e : mst.edges()) {
+                count++;
+            }
+            assertEquals(499, count);
+        }
+    }
+
+    @Test
+    void testSpanningForest() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(7);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(0, 2, 5));
+        G.addEdge(new Edge(3, 5, 4));
+        G.addEdge(new Edge(5, 6, 1));
+
+        for (PrimMST mst : new PrimMST[]{
+                new PrimMST(G, new Metrics(), DoubleIndexMinPQ::new, true),
+                new PrimMST(new CsrEdgeWeightedGraph(G), new Metrics(), DoubleIndexMinPQ::new, true)}) {
+            SpanningForest forest = mst.forest();
+            assertEquals(3, mst.componentCount());
+            assertEquals(3, forest.count());
+            assertEquals(8.0, forest.weight(), 0.001);
+            assertEquals(3.0, forest.weight(0), 0.001);
+            assertEquals(5.0, forest.weight(1), 0.001);
+            assertEquals(0.0, forest.weight(2), 0.001);
+            assertEquals(1, forest.component(6));
+            assertEquals(2, forest.component(4));
+            assertEquals(3, forest.size(1));
+            int count = 0;
+            for (Edge e : forest.edges(1)) {
+                count++;
+            }
+            assertEquals(2, count);
+        }
+        assertThrows(IllegalStateException.class, () -> new PrimMST(G, new Metrics()));
+    }
+
 }
\ No newline at end of file
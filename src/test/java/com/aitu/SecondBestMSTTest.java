@@ -0,0 +1,88 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class SecondBestMSTTest {
+    @Test
+    void testSmallGraph() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(4);
+        Edge heavy = new Edge(0, 3, 6);
+        Edge cheap = new Edge(1, 3, 4);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(1, 2, 2));
+        G.addEdge(new Edge(2, 3, 3));
+        G.addEdge(cheap);
+        G.addEdge(heavy);
+
+        SecondBestMST second = new SecondBestMST(G, new Metrics());
+
+        assertEquals(6.0, second.mstWeight(), 1e-9);
+        assertEquals(7.0, second.weight(), 1e-9);
+        assertSame(cheap, second.addedEdge());
+        assertEquals(3.0, second.removedEdge().weight(), 1e-9);
+
+        double sum = 0;
+        int count = 0;
+        for (Edge e : second.edges()) {
+            sum += e.weight();
+            count++;
+        }
+        assertEquals(G.V() - 1, count);
+        assertEquals(second.weight(), sum, 1e-9);
+        assertTrue(second.getMetrics().getComparisons() > 0);
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(43);
+        for (int round = 0; round < 20; round++) {
+            int V = 5 + random.nextInt(30);
+            EdgeWeightedGraph G = new EdgeWeightedGraph(V);
+            for (int v = 1; v < V; v++) {
+                G.addEdge(new Edge(random.nextInt(v), v, random.nextInt(20)));
+            }
+            for (int i = 0; i < V; i++) {
+                G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(20)));
+            }
+
+            SecondBestMST second = new SecondBestMST(G, new Metrics());
+            double expected = bruteForce(G);
+            if (Double.isInfinite(expected)) continue;
+            assertEquals(expected, second.weight(), 1e-9);
+
+            UF uf = new UF(V);
+            for (Edge e : second.edges()) {
+                int v = e.either();
+                uf.union(v, e.other(v));
+            }
+            assertEquals(1, uf.count());
+        }
+    }
+
+    @Test
+    void testTreeHasNoSecondBest() {
+        EdgeWeightedGraph G = new EdgeWeightedGraph(3);
+        G.addEdge(new Edge(0, 1, 1));
+        G.addEdge(new Edge(1, 2, 1));
+        G.addEdge(new Edge(2, 2, 5));
+        assertThrows(IllegalStateException.class, () -> new SecondBestMST(G, new Metrics()));
+    }
+
+    // removes each MST edge in turn and takes the cheapest spanning tree of what is left
+    private static double bruteForce(EdgeWeightedGraph G) {
+        double best = Double.POSITIVE_INFINITY;
+        for (Edge banned : new KruskalMST(G, new Metrics()).edges()) {
+            EdgeWeightedGraph H = new EdgeWeightedGraph(G.V());
+            for (Edge e : G.edges()) {
+                if (e != banned) H.addEdge(e);
+            }
+            KruskalMST mst = new KruskalMST(H, new Metrics(), KruskalMST.Strategy.SORT, true);
+            if (mst.componentCount() == 1) best = Math.min(best, mst.weight());
+        }
+        return best;
+    }
+}
@@ -0,0 +1,113 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+public class UnionFindTest {
+
+    private static void checkAgainstUF(IntFunction<UnionFind> factory) {
+        int n = 500;
+        Random random = new Random(3);
+        UF expected = new UF(n);
+        UnionFind actual = factory.apply(n);
+
+        for (int step = 0; step < 5_000; step++) {
+            int p = random.nextInt(n);
+            int q = random.nextInt(n);
+            boolean disjoint = expected.find(p) != expected.find(q);
+            assertEquals(disjoint, actual.find(p) != actual.find(q));
+            assertEquals(disjoint, actual.unionIfDisjoint(p, q));
+            expected.union(p, q);
+            assertEquals(expected.count(), actual.count());
+        }
+    }
+
+    @Test
+    void testUnionIfDisjoint() {
+        UF uf = new UF(4);
+        assertTrue(uf.unionIfDisjoint(0, 1));
+        assertTrue(uf.unionIfDisjoint(2, 3));
+        assertFalse(uf.unionIfDisjoint(1, 0));
+        assertTrue(uf.unionIfDisjoint(1, 3));
+        assertFalse(uf.unionIfDisjoint(0, 2));
+        assertEquals(1, uf.count());
+    }
+
+    @Test
+    void testLinkFoundRoots() {
+        Random random = new Random(5);
+        UF expected = new UF(200);
+        UF actual = new UF(200);
+        for (int step = 0; step < 1_000; step++) {
+            int p = random.nextInt(200);
+            int q = random.nextInt(200);
+            int rootP = actual.findUnchecked(p);
+            int rootQ = actual.findUnchecked(q);
+            assertEquals(expected.unionIfDisjoint(p, q), rootP != rootQ);
+            if (rootP != rootQ) actual.link(rootP, rootQ);
+            assertEquals(expected.count(), actual.count());
+        }
+    }
+
+    @Test
+    void testVariantsMatchUF() {
+        checkAgainstUF(WeightedQuickUnionUF::new);
+        checkAgainstUF(WeightedQuickUnionPathCompressionUF::new);
+        checkAgainstUF(ConcurrentUF::new);
+    }
+
+    @Test
+    void testSizes() {
+        WeightedQuickUnionUF halving = new WeightedQuickUnionUF(10);
+        WeightedQuickUnionPathCompressionUF compression = new WeightedQuickUnionPathCompressionUF(10);
+        for (int i = 0; i < 5; i++) {
+            halving.union(i, i + 1);
+            compression.union(i, i + 1);
+        }
+        assertEquals(6, halving.size(0));
+        assertEquals(6, compression.size(5));
+        assertEquals(1, halving.size(9));
+        assertEquals(5, compression.count());
+    }
+
+    @Test
+    void testConcurrentUnionsMergeEverySetOnce() throws Exception {
+        int n = 100_000;
+        int threads = 4;
+        ConcurrentUF uf = new ConcurrentUF(n);
+        AtomicInteger merges = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                futures.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    // every thread links the same chain, plus random pairs
+                    for (int i = 0; i + 1 < n; i++) {
+                        if (uf.unionIfDisjoint(i, i + 1)) merges.incrementAndGet();
+                        int p = random.nextInt(n);
+                        int q = random.nextInt(n);
+                        if (uf.unionIfDisjoint(p, q)) merges.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1, uf.count());
+        assertEquals(n - 1, merges.get());
+        assertTrue(uf.connected(0, n - 1));
+    }
+}
@@ -0,0 +1,28 @@
+package com.aitu;
+
+import com.aitu.Dependencies.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VertexSymbolTableTest {
+    @Test
+    void testBothDirections() {
+        VertexSymbolTable symbols = new VertexSymbolTable(1);
+        int count = 1000;
+        for (int v = 0; v < count; v++) {
+            assertEquals(v, symbols.add("district-" + v));
+        }
+        assertEquals(17, symbols.add("district-17"));
+        assertEquals(count, symbols.size());
+
+        for (int v = 0; v < count; v++) {
+            assertEquals("district-" + v, symbols.nameOf(v));
+            assertEquals(v, symbols.indexOf(symbols.nameOf(v)));
+        }
+        assertTrue(symbols.contains("district-999"));
+        assertFalse(symbols.contains("district-1000"));
+        assertEquals(-1, symbols.indexOf("district-1000"));
+        assertThrows(IllegalArgumentException.class, () -> symbols.nameOf(count));
+        assertThrows(IllegalArgumentException.class, () -> symbols.add(null));
+    }
+}